@@ -0,0 +1,54 @@
+package io.github.tex1988.boot.rpc.rabbit.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a method of an interface annotated with {@link RabbitRpcInterface}, or all its methods,
+ * on a bounded executor instead of the consumer thread.
+ * <p>
+ * The consumer hands the decoded and validated request over to the executor and returns to consuming,
+ * so slow methods do not hold the consumers of a queue shared with fast ones. The reply is published
+ * when the method completes. If the executor is saturated, the request is rejected at once with an
+ * {@link io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode#SERVICE_UNAVAILABLE} error instead
+ * of waiting in an unbounded queue. A method annotation overrides the annotation of its interface.
+ * </p>
+ * <p>
+ * Requests are acknowledged when handed over, so a request running on the executor is lost if the server
+ * stops. Streaming methods always run on the consumer thread.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    /**
+     * Specifies the bean name of the executor to run the methods on. The executor must reject tasks
+     * when saturated, e.g. a {@code ThreadPoolTaskExecutor} with a bounded queue.
+     * If empty, a dedicated pool is created with {@link #concurrency()} threads.
+     *
+     * @return the bean name of the executor
+     */
+    String executor() default "";
+
+    /**
+     * Specifies the number of threads of the dedicated pool, used if no {@link #executor()} is set.
+     * Defaults to {@code 1}.
+     *
+     * @return the number of threads of the dedicated pool
+     */
+    String concurrency() default "";
+
+    /**
+     * Specifies the number of requests waiting for a thread of the dedicated pool before further
+     * requests are rejected. Defaults to {@code 0}, so requests are rejected once all threads are busy.
+     *
+     * @return the queue capacity of the dedicated pool
+     */
+    String queueCapacity() default "";
+}
@@ -62,6 +62,30 @@ public @interface EnableRabbitRpc {
      */
     String executor() default "";
 
+    /**
+     * @return the type of the message listener containers, if {@link #enableServer()} is {@code true}.
+     * With {@code "simple"} deliveries are handed over from the AMQP client thread to the consumer threads
+     * of a {@code SimpleMessageListenerContainer}. With {@code "direct"} a {@code DirectMessageListenerContainer}
+     * invokes the service on the AMQP client thread, avoiding the handover, and the upper bound of
+     * {@link #concurrency()} is used as the number of consumers per queue. Defaults to {@code "simple"}.
+     */
+    String containerType() default "";
+
+    /**
+     * @return the interval between samples of queues with {@link RabbitRpcInterface#autoscale()} bounds,
+     * in milliseconds, if {@link #enableServer()} is {@code true}. Defaults to {@code 5000}.
+     */
+    String autoscaleInterval() default "";
+
+    /**
+     * @return the fraction of the remaining reply budget a request may have waited in the queue, such as
+     * {@code "0.5"}, if {@link #enableServer()} is {@code true}. Requests that waited longer are shed at once with
+     * a {@link io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode#SERVICE_UNAVAILABLE} error instead of
+     * being served late. The wait is measured against the send time stamped by the client, so client and server
+     * clocks must be synchronized. Must be positive. Disabled by default.
+     */
+    String queueWaitRatio() default "";
+
     /**
      * @return the bean name of message converter for the message listener container,
      * By default, {@code KryoMessageConverter} will be used.
@@ -79,4 +103,25 @@ public @interface EnableRabbitRpc {
      * By default, an instance of {@code RabbitRpcErrorHandler} will be used.
      */
     String errorHandler() default "";
+
+    /**
+     * @return the name of the {@link io.github.tex1988.boot.rpc.rabbit.claimcheck.BlobStore} bean used to offload
+     * bodies of interfaces with a {@link RabbitRpcInterface#claimCheckThreshold()}.
+     * By default, the single {@code BlobStore} bean of the application context is used, if any.
+     */
+    String blobStore() default "";
+
+    /**
+     * @return the largest size, in bytes, a received compressed body may be decompressed to. Messages declaring
+     * a larger size are rejected before any buffer is allocated. Default is {@code 67108864} (64 MiB).
+     */
+    String maxDecompressedSize() default "";
+
+    /**
+     * @return the bounds of the Fory instance pool of the default message converter, as {@code "max"} or
+     * {@code "min-max"}. The pool grows with the number of threads (listener consumers and client callers)
+     * converting at the same time and shrinks back to {@code min} once instances are unused for a minute;
+     * callers only wait once {@code max} instances are in use. Default is {@code "2-100"}.
+     */
+    String foryPoolSize() default "";
 }
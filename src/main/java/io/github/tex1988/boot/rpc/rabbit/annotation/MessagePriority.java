@@ -0,0 +1,30 @@
+package io.github.tex1988.boot.rpc.rabbit.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the message priority of the requests of a method of an interface annotated with
+ * {@link RabbitRpcInterface}, or of all its methods.
+ * <p>
+ * Queues of interfaces using priorities are declared with the {@code x-max-priority} argument, so under
+ * a backlog requests of a higher priority are delivered before requests of a lower one. A method annotation
+ * overrides the annotation of its interface, and a priority set for a single call with
+ * {@link io.github.tex1988.boot.rpc.rabbit.priority.PriorityContext} overrides both.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ * @see RabbitRpcInterface#maxPriority()
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MessagePriority {
+
+    /**
+     * @return the message priority, from {@code 0} up to the max priority of the queue
+     */
+    int value();
+}
@@ -0,0 +1,24 @@
+package io.github.tex1988.boot.rpc.rabbit.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter whose value selects the partition of a request to an interface with
+ * {@link RabbitRpcInterface#partitions()}.
+ * <p>
+ * Requests with equal keys are routed to the same partition queue, which is consumed by a single active
+ * consumer, so they are processed in the order they were sent. The partition is derived from the string
+ * form of the key, which must be stable across JVMs. Requests of methods without a key are spread over
+ * the partitions.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey {
+}
@@ -53,4 +53,269 @@ public @interface RabbitRpcInterface {
      * @return the routing key
      */
     String routing();
+
+    /**
+     * Specifies the content type of the codec used to serialize requests of this interface.
+     * <p>
+     * The codec must be registered for this content type in a
+     * {@link io.github.tex1988.boot.rpc.rabbit.model.RabbitRpcConverterMapping} bean, otherwise the application
+     * fails to start.
+     * The server decodes requests by their content type and replies with the same codec.
+     * By default, the application message converter (Apache Fory) is used.
+     * </p>
+     *
+     * @return the content type, e.g. {@code "application/json"}
+     */
+    String contentType() default "";
+
+    /**
+     * Specifies the compression of request and reply bodies of this interface.
+     * <p>
+     * Supported values are {@code lz4} (speed, requires {@code at.yawk.lz4:lz4-java}) and
+     * {@code zstd} (ratio, requires {@code com.github.luben:zstd-jni}).
+     * Compressed messages are marked by their {@code contentEncoding}, e.g. {@code lz4:UTF-8},
+     * and decompressed on receipt. By default, bodies are not compressed.
+     * </p>
+     *
+     * @return the compression encoding, or {@code none}
+     */
+    String compression() default "";
+
+    /**
+     * Specifies the minimum body size in bytes for compression to be applied.
+     * <p>
+     * Defaults to {@value io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry#DEFAULT_THRESHOLD}
+     * bytes. Ignored if {@link #compression()} is not set.
+     * </p>
+     *
+     * @return the compression threshold in bytes
+     */
+    String compressionThreshold() default "";
+
+    /**
+     * Specifies the location of a trained Zstandard dictionary used with {@code zstd} {@link #compression()}.
+     * <p>
+     * Dictionaries make small, repetitive payloads compressible. Both client and server load the dictionary
+     * from this location; its id is sent with every compressed message. If set, the default
+     * {@link #compressionThreshold()} is {@code 0}.
+     * </p>
+     *
+     * @return the dictionary resource location, e.g. {@code classpath:rabbit-rpc/user-service.zdict}
+     * @see io.github.tex1988.boot.rpc.rabbit.compression.ZstdDictionaryTrainer
+     */
+    String compressionDictionary() default "";
+
+    /**
+     * Specifies the minimum body size in bytes for request and reply bodies to be offloaded to a
+     * {@link io.github.tex1988.boot.rpc.rabbit.claimcheck.BlobStore} (claim check).
+     * <p>
+     * Offloaded messages carry only a reference to the stored body; the receiver reads the body back and
+     * deletes it. Bodies are offloaded after compression. Requires a {@code BlobStore} bean shared by
+     * client and server, see {@link EnableRabbitRpc#blobStore()}. By default, bodies are not offloaded.
+     * </p>
+     *
+     * @return the claim-check threshold in bytes
+     */
+    String claimCheckThreshold() default "";
+
+    /**
+     * Specifies the number of elements per chunk of streamed results.
+     * <p>
+     * Results of methods returning {@link java.util.stream.Stream}, {@link java.util.Iterator} or
+     * {@code reactor.core.publisher.Flux} are sent in chunks of this many elements, so neither server nor client
+     * hold the whole result in memory. Defaults to
+     * {@value io.github.tex1988.boot.rpc.rabbit.stream.StreamRegistry#DEFAULT_CHUNK_SIZE}.
+     * </p>
+     * <p>
+     * Every call holds a channel and a queue on the client until its result is exhausted or closed, so a returned
+     * {@code Stream} should be closed (e.g. with try-with-resources) when it is not consumed to the end.
+     * A result that is dropped without either is only released once it is garbage collected.
+     * </p>
+     *
+     * @return the stream chunk size
+     */
+    String streamChunkSize() default "";
+
+    /**
+     * Specifies the maximum number of chunks of a streamed result in flight to the client.
+     * <p>
+     * The server publishes a chunk only when the client granted a credit for it, so a slow consumer slows down
+     * the server. Defaults to {@value io.github.tex1988.boot.rpc.rabbit.stream.StreamRegistry#DEFAULT_CREDIT}.
+     * </p>
+     *
+     * @return the stream credit in chunks
+     */
+    String streamCredit() default "";
+
+    /**
+     * Specifies how requests address the invoked method: {@code "names"} or {@code "compact"}.
+     * <p>
+     * With {@code "names"} the interface name, method name and signature are sent as string headers.
+     * With {@code "compact"} a single numeric route id is sent instead, derived from the interface name and
+     * the method signature on both sides. The server accepts both modes, so the client can be switched
+     * independently. Defaults to {@code "names"}.
+     * </p>
+     *
+     * @return the routing header mode
+     * @see io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry
+     */
+    String routingHeaders() default "";
+
+    /**
+     * Specifies the concurrency of the listener container of the queue, overriding
+     * {@link EnableRabbitRpc#concurrency()}. Accepts values such as {@code "5"} or {@code "5-10"}.
+     * <p>
+     * Interfaces sharing a queue share its listener container, so they must not declare different values.
+     * </p>
+     *
+     * @return the concurrency of the queue consumers
+     */
+    String concurrency() default "";
+
+    /**
+     * Specifies the number of unacknowledged messages each consumer of the queue may hold.
+     * By default, the prefetch defined by {@code spring-boot-starter-amqp} is used.
+     *
+     * @return the prefetch count of the queue consumers
+     */
+    String prefetch() default "";
+
+    /**
+     * Specifies the bean name of the task executor running the consumers of the queue,
+     * overriding {@link EnableRabbitRpc#executor()}.
+     *
+     * @return the bean name of the executor of the queue consumers
+     */
+    String executor() default "";
+
+    /**
+     * Specifies the type of the listener container of the queue, {@code "simple"} or {@code "direct"},
+     * overriding {@link EnableRabbitRpc#containerType()}.
+     *
+     * @return the listener container type of the queue
+     */
+    String containerType() default "";
+
+    /**
+     * Specifies the bounds of the consumers of the queue, such as {@code "2-32"}, within which the consumers
+     * and the prefetch are adjusted to the queue depth, the arrival rate and the handling time of requests.
+     * The configured {@link #prefetch()} is the upper bound of the prefetch. Disabled by default.
+     *
+     * @return the consumer bounds of the queue autoscaling
+     * @see io.github.tex1988.boot.rpc.rabbit.scaling.ConsumerAutoscaler
+     */
+    String autoscale() default "";
+
+    /**
+     * Specifies the {@code x-max-priority} argument the queue is declared with. Defaults to {@code 10}
+     * if any method uses {@link MessagePriority}, otherwise the queue is declared without priorities.
+     * Set it to use priorities only through {@link io.github.tex1988.boot.rpc.rabbit.priority.PriorityContext}.
+     * The argument of an existing queue cannot be changed, so it only applies to new queues.
+     * Quorum queues are never declared with it and fail if it is set: they only distinguish normal priorities
+     * ({@code 0} to {@code 4}) from high priorities ({@code 5} and above).
+     *
+     * @return the max priority of the queue
+     */
+    String maxPriority() default "";
+
+    /**
+     * Specifies the number of partitions of the queue. With more than one partition the server declares a queue
+     * per partition, each consumed by a single active consumer, and the client routes requests by their
+     * {@link PartitionKey}, so requests with equal keys are processed in order and different keys in parallel.
+     * The consumer settings of the interface apply to no partition queue. Disabled by default.
+     *
+     * @return the number of partitions
+     * @see io.github.tex1988.boot.rpc.rabbit.routing.PartitionRouting
+     */
+    String partitions() default "";
+
+    /**
+     * Specifies the {@code x-queue-type} the queue is declared with, {@code "classic"} or {@code "quorum"}.
+     * Quorum queues are replicated and declared durable. Stream queues are not supported, as their consumers
+     * each read all messages instead of competing for them. Defaults to the broker default type.
+     *
+     * @return the queue type
+     */
+    String queueType() default "";
+
+    /**
+     * Specifies the {@code x-max-length} argument the queue is declared with, the maximum number of ready messages.
+     *
+     * @return the maximum queue length
+     * @see #overflow()
+     */
+    String maxLength() default "";
+
+    /**
+     * Specifies the {@code x-max-length-bytes} argument the queue is declared with, the maximum total body size
+     * of ready messages.
+     *
+     * @return the maximum queue size in bytes
+     * @see #overflow()
+     */
+    String maxLengthBytes() default "";
+
+    /**
+     * Specifies the {@code x-overflow} behaviour of a queue reaching its {@link #maxLength()} or
+     * {@link #maxLengthBytes()}: {@code "drop-head"}, {@code "reject-publish"} or {@code "reject-publish-dlx"}.
+     * With {@code "reject-publish"} and {@link #failFast()} clients fail at once when the queue is full.
+     *
+     * @return the overflow behaviour of the queue
+     */
+    String overflow() default "";
+
+    /**
+     * Specifies the {@code x-message-ttl} argument the queue is declared with, in milliseconds.
+     *
+     * @return the time-to-live of messages in the queue
+     */
+    String messageTtl() default "";
+
+    /**
+     * Specifies whether the client fails at once with an
+     * {@link io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode#SERVICE_UNAVAILABLE} error when the broker
+     * does not take a request, instead of waiting for the reply timeout. Requests are published as mandatory, so
+     * unroutable requests are returned, and the publisher confirm is awaited, so requests rejected by a full queue
+     * are nacked. Requires {@code spring.rabbitmq.publisher-returns=true} and
+     * {@code spring.rabbitmq.publisher-confirm-type=correlated}. Disabled by default.
+     *
+     * @return whether the client fails fast
+     */
+    String failFast() default "";
+
+    /**
+     * Specifies the delays of the retry tiers of failed requests in milliseconds, such as
+     * {@code "1000,10000,60000"}. A failed request is dead-lettered to the delay queue of its next tier, which
+     * routes it back to the queue once the delay expires, and after the last tier it is parked in the parking
+     * queue and the error is replied. Requests rejected with a status other than
+     * {@link io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode#INTERNAL_SERVER_ERROR} and undecodable
+     * requests are not retried. Disabled by default, failed requests are answered with an error at once.
+     *
+     * @return the delays of the retry tiers
+     * @see io.github.tex1988.boot.rpc.rabbit.retry.RetryPolicy
+     */
+    String retryDelays() default "";
+
+    /**
+     * Specifies the number of deliveries after which a redelivered request is quarantined as a poison message.
+     * The request is moved undecoded to the quarantine queue of the queue, and the caller receives a
+     * {@link io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode#BAD_REQUEST} error. Deliveries are taken
+     * from the {@code x-delivery-count} header of quorum queues, or counted by the consumer for other queues.
+     * Disabled by default.
+     *
+     * @return the maximum number of deliveries of a request
+     * @see io.github.tex1988.boot.rpc.rabbit.quarantine.PoisonMessageQuarantine
+     */
+    String maxDeliveries() default "";
+
+    /**
+     * Specifies the bounds of the adaptive limit of concurrent calls of the client to the service, such as
+     * {@code "4-200"}. The limit adapts to the round trip time of calls, and calls over the limit fail at once
+     * with a {@link io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcLimitExceededException} instead of
+     * blocking a thread until the slowed service answers. Only request-reply calls are limited. Disabled by default.
+     *
+     * @return the bounds of the client concurrency limit
+     * @see io.github.tex1988.boot.rpc.rabbit.limit.AdaptiveConcurrencyLimiter
+     */
+    String clientConcurrencyLimit() default "";
 }
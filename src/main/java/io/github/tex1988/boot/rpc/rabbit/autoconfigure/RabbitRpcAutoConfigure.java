@@ -2,18 +2,39 @@ package io.github.tex1988.boot.rpc.rabbit.autoconfigure;
 
 import com.rabbitmq.client.Channel;
 import io.github.tex1988.boot.rpc.rabbit.annotation.EnableRabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.annotation.MessagePriority;
 import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
 import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.bulkhead.BulkheadRegistry;
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.BlobStore;
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.ClaimCheckRegistry;
+import io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry;
+import io.github.tex1988.boot.rpc.rabbit.compression.PayloadCompressor;
+import io.github.tex1988.boot.rpc.rabbit.limit.AdaptiveConcurrencyLimiter;
+import io.github.tex1988.boot.rpc.rabbit.quarantine.PoisonMessageQuarantine;
+import io.github.tex1988.boot.rpc.rabbit.retry.RetryPolicy;
+import io.github.tex1988.boot.rpc.rabbit.routing.PartitionRouting;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
+import io.github.tex1988.boot.rpc.rabbit.scaling.ConsumerAutoscaler;
+import io.github.tex1988.boot.rpc.rabbit.scaling.ConsumerLoad;
+import io.github.tex1988.boot.rpc.rabbit.stream.StreamRegistry;
 import io.github.tex1988.boot.rpc.rabbit.converter.ConverterFactory;
+import io.github.tex1988.boot.rpc.rabbit.converter.MessageConverterRegistry;
+import io.github.tex1988.boot.rpc.rabbit.converter.ReplyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.metrics.MetricsFactory;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
 import io.github.tex1988.boot.rpc.rabbit.model.RabbitRpcErrorMapping;
+import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcAdmissionCheck;
 import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
 import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcClientProxyFactory;
 import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcErrorHandler;
 import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcMessageHandler;
 import io.github.tex1988.boot.rpc.rabbit.validator.RabbitRpcValidator;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import lombok.SneakyThrows;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.Binding;
@@ -24,17 +45,21 @@ import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueInformation;
 import org.springframework.amqp.rabbit.config.RabbitListenerConfigUtils;
+import org.springframework.amqp.rabbit.AsyncRabbitTemplate;
+import org.springframework.amqp.rabbit.config.AbstractRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.Connection;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.MethodRabbitListenerEndpoint;
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
 import org.springframework.amqp.rabbit.listener.api.RabbitListenerErrorHandler;
-import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.amqp.DirectRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.ApplicationContext;
@@ -50,23 +75,42 @@ import java.lang.reflect.Method;
 import java.net.InetAddress;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.HANDLER_METHOD_NAME;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @ConditionalOnClass({EnableRabbitRpc.class, ConnectionFactory.class})
 class RabbitRpcAutoConfigure {
 
+    private static final String SIMPLE_CONTAINER = "simple";
+    private static final String DIRECT_CONTAINER = "direct";
+    private static final String MAX_PRIORITY_ARGUMENT = "x-max-priority";
+    private static final int DEFAULT_MAX_PRIORITY = 10;
+    private static final String SINGLE_ACTIVE_CONSUMER_ARGUMENT = "x-single-active-consumer";
+    private static final String QUEUE_TYPE_ARGUMENT = "x-queue-type";
+    private static final String MAX_LENGTH_ARGUMENT = "x-max-length";
+    private static final String MAX_LENGTH_BYTES_ARGUMENT = "x-max-length-bytes";
+    private static final String OVERFLOW_ARGUMENT = "x-overflow";
+    private static final String MESSAGE_TTL_ARGUMENT = "x-message-ttl";
+    private static final String DEAD_LETTER_EXCHANGE_ARGUMENT = "x-dead-letter-exchange";
+    private static final String DEAD_LETTER_ROUTING_KEY_ARGUMENT = "x-dead-letter-routing-key";
+    private static final String QUORUM_QUEUE = "quorum";
+    private static final String STREAM_QUEUE = "stream";
+
     private final ApplicationContext applicationContext;
     private final ConnectionFactory connectionFactory;
     private final SimpleRabbitListenerContainerFactoryConfigurer configurer;
+    private final DirectRabbitListenerContainerFactoryConfigurer directConfigurer;
     private final DefaultMessageHandlerMethodFactory messageHandlerMethodFactory = new DefaultMessageHandlerMethodFactory();
     private final AmqpAdmin amqpAdmin;
     private final Validator validator;
@@ -74,9 +118,34 @@ class RabbitRpcAutoConfigure {
     private final RabbitRpcBeanExpressionResolver expressionResolver;
 
     private List<Integer> concurrency;
-    private MessageConverter messageConverter;
-    private SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory;
+    private MessageConverterRegistry messageConverter;
+    private RabbitRpcMetrics metrics;
+    private CompressionRegistry compressionRegistry;
+    private ClaimCheckRegistry claimCheckRegistry;
+    private StreamRegistry streamRegistry;
+    private RouteRegistry routeRegistry;
+    private RabbitRpcAdmissionCheck admissionCheck;
+    private final Map<String, AbstractRabbitListenerContainerFactory<?>> listenerContainerFactories = new HashMap<>();
+    private String containerType;
+    private Executor taskExecutor;
     private RabbitListenerErrorHandler errorHandler;
+    private ConsumerAutoscaler autoscaler;
+    private BulkheadRegistry bulkheadRegistry;
+    private RabbitTemplate rabbitTemplate;
+    private AsyncRabbitTemplate asyncRabbitTemplate;
+
+    @PreDestroy
+    public void destroy() {
+        if (autoscaler != null) {
+            autoscaler.stop();
+        }
+        if (bulkheadRegistry != null) {
+            bulkheadRegistry.destroy();
+        }
+        if (asyncRabbitTemplate != null) {
+            asyncRabbitTemplate.stop();
+        }
+    }
 
     @PostConstruct
     public void init() {
@@ -93,50 +162,141 @@ class RabbitRpcAutoConfigure {
     }
 
     private void initRabbitTemplate(EnableRabbitRpc annotation) {
+        metrics = new MetricsFactory(applicationContext).getMetrics();
         ConverterFactory converterFactory = new ConverterFactory(applicationContext, expressionResolver);
-        messageConverter = converterFactory
-                .getConverter(annotation.messageConverter(), annotation.allowedSerializationPatterns(), concurrency);
+        messageConverter = converterFactory.getConverter(annotation.messageConverter(),
+                annotation.allowedSerializationPatterns(), annotation.foryPoolSize(), metrics);
+        compressionRegistry = new CompressionRegistry(expressionResolver, metrics, getMaxDecompressedSize(annotation));
+        claimCheckRegistry = new ClaimCheckRegistry(expressionResolver, getBlobStore(annotation));
+        streamRegistry = new StreamRegistry(expressionResolver, messageConverter, compressionRegistry);
         ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) applicationContext).getBeanFactory();
-        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
         rabbitTemplate.setReplyTimeout(annotation.replyTimeout());
         beanFactory.getBeansOfType(RabbitRpcClientProxyFactory.class).forEach((name, factory) ->
         {
+            checkContentType(factory.getObjectType());
             factory.setRabbitTemplate(rabbitTemplate);
+            factory.setMessageConverter(messageConverter);
+            factory.setCompressionRegistry(compressionRegistry);
+            compressionRegistry.register(factory.getObjectType());
+            factory.setClaimCheckRegistry(claimCheckRegistry);
+            claimCheckRegistry.register(factory.getObjectType());
+            factory.setStreamRegistry(streamRegistry);
+            streamRegistry.register(factory.getObjectType());
             factory.setMessageTtl(String.valueOf(annotation.replyTimeout()));
+            factory.setReplyTimeout(annotation.replyTimeout());
+            if (factory.isFailFast()) {
+                factory.setAsyncRabbitTemplate(getAsyncRabbitTemplate(annotation));
+            }
+            AdaptiveConcurrencyLimiter limiter = factory.getConcurrencyLimiter();
+            if (limiter != null) {
+                metrics.registerConcurrencyLimit(factory.getObjectType().getSimpleName(), limiter::getLimit,
+                        limiter::getInFlight, limiter::getRejected);
+            }
         });
     }
 
+    /**
+     * Checks that a codec is registered for the {@link RabbitRpcInterface#contentType()} of an interface.
+     * Otherwise the client would encode requests with the default converter and the server would reject them.
+     *
+     * @throws IllegalStateException if no codec is registered for the content type
+     */
+    private void checkContentType(Class<?> iClazz) {
+        RabbitRpcInterface annotation = iClazz.getAnnotation(RabbitRpcInterface.class);
+        String contentType = annotation != null ? expressionResolver.resolveValue(annotation.contentType()) : null;
+        if (contentType != null && !contentType.isBlank() && !messageConverter.supports(contentType)) {
+            throw new IllegalStateException("No codec is registered for content type " + contentType + " of "
+                    + iClazz.getName());
+        }
+    }
+
+    /**
+     * Creates the template of fail-fast clients, which publishes requests as mandatory and awaits their confirms
+     * if the connection factory supports returns and confirms.
+     */
+    private AsyncRabbitTemplate getAsyncRabbitTemplate(EnableRabbitRpc annotation) {
+        if (asyncRabbitTemplate == null) {
+            if (!connectionFactory.isPublisherReturns() || !connectionFactory.isPublisherConfirms()) {
+                log.warn("Fail-fast Rabbit RPC clients require publisher returns and correlated publisher confirms");
+            }
+            RabbitTemplate template = new RabbitTemplate(connectionFactory);
+            template.setMandatory(connectionFactory.isPublisherReturns());
+            asyncRabbitTemplate = new AsyncRabbitTemplate(template);
+            asyncRabbitTemplate.setMandatory(connectionFactory.isPublisherReturns());
+            asyncRabbitTemplate.setEnableConfirms(connectionFactory.isPublisherConfirms());
+            asyncRabbitTemplate.setReceiveTimeout(annotation.replyTimeout());
+            asyncRabbitTemplate.start();
+        }
+        return asyncRabbitTemplate;
+    }
+
     private void initServer(EnableRabbitRpc annotation) {
         List<Object> beanList = applicationContext
                 .getBeansWithAnnotation(RabbitRpc.class).values().stream().toList();
         if (!beanList.isEmpty()) {
             ((RabbitAdmin) amqpAdmin).setRedeclareManualDeclarations(true);
-            initRabbitListenerContainerFactory(annotation);
+            containerType = getContainerType(annotation.containerType());
+            taskExecutor = getTaskExecutor(annotation);
             createMethodHandles(beanList);
+            methodHandles.keySet().forEach(this::checkContentType);
+            methodHandles.keySet().forEach(compressionRegistry::register);
+            methodHandles.keySet().forEach(claimCheckRegistry::register);
+            methodHandles.keySet().forEach(streamRegistry::register);
+            bulkheadRegistry = new BulkheadRegistry(applicationContext, expressionResolver, getServiceName(), metrics);
+            methodHandles.keySet().forEach(bulkheadRegistry::register);
+            routeRegistry = new RouteRegistry(methodHandles);
+            admissionCheck = new RabbitRpcAdmissionCheck(getServiceName(), methodHandles, messageConverter,
+                    routeRegistry, metrics, getQueueWaitRatio(annotation));
             errorHandler = getErrorHandler(annotation, methodHandles);
+            autoscaler = new ConsumerAutoscaler(amqpAdmin, metrics, getAutoscaleInterval(annotation));
             initServers(beanList);
+            autoscaler.start();
         }
     }
 
-    private void initRabbitListenerContainerFactory(EnableRabbitRpc annotation) {
-        rabbitListenerContainerFactory = new SimpleRabbitListenerContainerFactory();
-        configurer.configure(rabbitListenerContainerFactory, connectionFactory);
-        rabbitListenerContainerFactory.setMessageConverter(messageConverter);
-        rabbitListenerContainerFactory.setFailedDeclarationRetryInterval(10000L);
-        rabbitListenerContainerFactory.setMissingQueuesFatal(false);
-        rabbitListenerContainerFactory.setDefaultRequeueRejected(true);
-        rabbitListenerContainerFactory.setApplicationEventPublisher(applicationContext);
-        rabbitListenerContainerFactory.setApplicationContext(applicationContext);
-        if (!concurrency.isEmpty()) {
-            rabbitListenerContainerFactory.setConcurrentConsumers(concurrency.get(0));
-            if (concurrency.size() > 1) {
-                rabbitListenerContainerFactory.setMaxConcurrentConsumers(concurrency.get(1));
+    private AbstractRabbitListenerContainerFactory<?> getListenerContainerFactory(String type) {
+        return listenerContainerFactories.computeIfAbsent(type, this::createListenerContainerFactory);
+    }
+
+    /**
+     * Creates the listener container factory of a container type. The direct container runs the handler
+     * on the delivery thread of the AMQP client, so its concurrency is the number of consumers per queue.
+     */
+    private AbstractRabbitListenerContainerFactory<?> createListenerContainerFactory(String type) {
+        AbstractRabbitListenerContainerFactory<?> factory;
+        if (DIRECT_CONTAINER.equals(type)) {
+            DirectRabbitListenerContainerFactory directFactory = new DirectRabbitListenerContainerFactory();
+            directConfigurer.configure(directFactory, connectionFactory);
+            if (!concurrency.isEmpty()) {
+                directFactory.setConsumersPerQueue(concurrency.get(concurrency.size() - 1));
             }
+            factory = directFactory;
+        } else if (SIMPLE_CONTAINER.equals(type)) {
+            SimpleRabbitListenerContainerFactory simpleFactory = new SimpleRabbitListenerContainerFactory();
+            configurer.configure(simpleFactory, connectionFactory);
+            if (!concurrency.isEmpty()) {
+                simpleFactory.setConcurrentConsumers(concurrency.get(0));
+                if (concurrency.size() > 1) {
+                    simpleFactory.setMaxConcurrentConsumers(concurrency.get(1));
+                }
+            }
+            factory = simpleFactory;
+        } else {
+            throw new IllegalStateException("Unsupported listener container type: " + type);
         }
-        if (annotation.executor() != null && !annotation.executor().isEmpty()) {
-            rabbitListenerContainerFactory.setTaskExecutor(getTaskExecutor(annotation));
+        factory.setMessageConverter(new ReplyMessageConverter(messageConverter));
+        factory.setAfterReceivePostProcessors(claimCheckRegistry::checkOut, compressionRegistry::decompress);
+        factory.setFailedDeclarationRetryInterval(10000L);
+        factory.setMissingQueuesFatal(false);
+        factory.setDefaultRequeueRejected(true);
+        factory.setApplicationEventPublisher(applicationContext);
+        factory.setApplicationContext(applicationContext);
+        if (taskExecutor != null) {
+            factory.setTaskExecutor(taskExecutor);
         }
+        return factory;
     }
 
     private void createMethodHandles(List<Object> beanList) {
@@ -174,8 +334,23 @@ class RabbitRpcAutoConfigure {
         createOrConnectExchange(exchange, amqpAdmin);
         queues.forEach((queueName, beans) -> {
             String routing = resolveRouting(beans.get(0));
-            Queue queue = createQueue(queueName, exchange, routing, amqpAdmin);
-            createMessageListenerContainer(queue);
+            Map<String, Object> arguments = getQueueArguments(queueName, beans);
+            List<Long> retryDelays = getRetryDelays(queueName, beans);
+            String partitions = resolveQueueSetting(queueName, beans, RabbitRpcInterface::partitions);
+            if (partitions != null && Integer.parseInt(partitions) > 1) {
+                // Each partition has a single active consumer, so requests of a key are processed in order
+                arguments.put(SINGLE_ACTIVE_CONSUMER_ARGUMENT, true);
+                for (int i = 0; i < Integer.parseInt(partitions); i++) {
+                    String partitionQueueName = PartitionRouting.getQueueName(queueName, i);
+                    Queue queue = createQueue(partitionQueueName, exchange, PartitionRouting.getRoutingKey(routing, i),
+                            createRetryQueues(partitionQueueName, arguments, retryDelays), amqpAdmin);
+                    createMessageListenerContainer(queue, beans, true, retryDelays);
+                }
+            } else {
+                Queue queue = createQueue(queueName, exchange, routing,
+                        createRetryQueues(queueName, arguments, retryDelays), amqpAdmin);
+                createMessageListenerContainer(queue, beans, false, retryDelays);
+            }
         });
     }
 
@@ -192,10 +367,13 @@ class RabbitRpcAutoConfigure {
         }
     }
 
-    private Queue createQueue(String queueName, String exchangeName, String routing, AmqpAdmin amqpAdmin) {
+    private Queue createQueue(String queueName, String exchangeName, String routing, Map<String, Object> arguments,
+                              AmqpAdmin amqpAdmin) {
         QueueInformation queueInfo = amqpAdmin.getQueueInfo(queueName);
         if (queueInfo == null || queueInfo.getName() == null) {
-            Queue queue = new Queue(queueName, false);
+            // Quorum queues must be durable
+            boolean durable = QUORUM_QUEUE.equals(arguments.get(QUEUE_TYPE_ARGUMENT));
+            Queue queue = new Queue(queueName, durable, false, false, arguments);
             amqpAdmin.declareQueue(queue);
             Binding binding = BindingBuilder.bind(queue)
                     .to(new DirectExchange(exchangeName, false, true))
@@ -207,6 +385,95 @@ class RabbitRpcAutoConfigure {
         }
     }
 
+    /**
+     * Declares the delay queues of the retry tiers of a queue, which dead-letter expired requests back to it
+     * through the default exchange, and its parking queue.
+     *
+     * @return the arguments of the queue, dead-lettering requests it rejects to the parking queue
+     */
+    private Map<String, Object> createRetryQueues(String queueName, Map<String, Object> arguments,
+                                                  List<Long> retryDelays) {
+        if (retryDelays.isEmpty()) {
+            return arguments;
+        }
+        for (int i = 0; i < retryDelays.size(); i++) {
+            Map<String, Object> delayArguments = new HashMap<>();
+            delayArguments.put(MESSAGE_TTL_ARGUMENT, retryDelays.get(i));
+            delayArguments.put(DEAD_LETTER_EXCHANGE_ARGUMENT, "");
+            delayArguments.put(DEAD_LETTER_ROUTING_KEY_ARGUMENT, queueName);
+            declareQueue(new Queue(RetryPolicy.getDelayQueueName(queueName, i), false, false, false, delayArguments));
+        }
+        String parkingQueueName = RetryPolicy.getParkingQueueName(queueName);
+        declareQueue(new Queue(parkingQueueName, false));
+        Map<String, Object> queueArguments = new HashMap<>(arguments);
+        queueArguments.put(DEAD_LETTER_EXCHANGE_ARGUMENT, "");
+        queueArguments.put(DEAD_LETTER_ROUTING_KEY_ARGUMENT, parkingQueueName);
+        return queueArguments;
+    }
+
+    private void declareQueue(Queue queue) {
+        QueueInformation queueInfo = amqpAdmin.getQueueInfo(queue.getName());
+        if (queueInfo == null || queueInfo.getName() == null) {
+            amqpAdmin.declareQueue(queue);
+        }
+    }
+
+    private List<Long> getRetryDelays(String queueName, List<Object> beans) {
+        String retryDelays = resolveQueueSetting(queueName, beans, RabbitRpcInterface::retryDelays);
+        if (retryDelays == null) {
+            return List.of();
+        }
+        return Arrays.stream(retryDelays.split(",")).map(String::trim).map(Long::parseLong).toList();
+    }
+
+    /**
+     * Resolves the arguments of a queue declared for the interfaces it serves.
+     * Arguments of existing queues cannot be changed, so they only apply to new queues.
+     */
+    private Map<String, Object> getQueueArguments(String queueName, List<Object> beans) {
+        Map<String, Object> arguments = new HashMap<>();
+        String queueType = resolveQueueSetting(queueName, beans, RabbitRpcInterface::queueType);
+        if (STREAM_QUEUE.equals(queueType)) {
+            throw new IllegalStateException("Stream queues cannot be used as Rabbit RPC queue " + queueName);
+        } else if (queueType != null) {
+            arguments.put(QUEUE_TYPE_ARGUMENT, queueType);
+        }
+        String maxLength = resolveQueueSetting(queueName, beans, RabbitRpcInterface::maxLength);
+        if (maxLength != null) {
+            arguments.put(MAX_LENGTH_ARGUMENT, Long.parseLong(maxLength));
+        }
+        String maxLengthBytes = resolveQueueSetting(queueName, beans, RabbitRpcInterface::maxLengthBytes);
+        if (maxLengthBytes != null) {
+            arguments.put(MAX_LENGTH_BYTES_ARGUMENT, Long.parseLong(maxLengthBytes));
+        }
+        String overflow = resolveQueueSetting(queueName, beans, RabbitRpcInterface::overflow);
+        if (overflow != null) {
+            arguments.put(OVERFLOW_ARGUMENT, overflow);
+        }
+        String messageTtl = resolveQueueSetting(queueName, beans, RabbitRpcInterface::messageTtl);
+        if (messageTtl != null) {
+            arguments.put(MESSAGE_TTL_ARGUMENT, Long.parseLong(messageTtl));
+        }
+        // Quorum queues reject x-max-priority, they always have a normal and a high priority
+        boolean quorum = QUORUM_QUEUE.equals(queueType);
+        String maxPriority = resolveQueueSetting(queueName, beans, RabbitRpcInterface::maxPriority);
+        if (maxPriority != null) {
+            if (quorum) {
+                throw new IllegalStateException("Quorum queue " + queueName + " cannot be declared with maxPriority "
+                        + maxPriority + ", quorum queues only support their two built-in priorities");
+            }
+            arguments.put(MAX_PRIORITY_ARGUMENT, Integer.parseInt(maxPriority));
+        } else if (!quorum && beans.stream().map(this::getRabbitRpcInterface).anyMatch(this::usesPriorities)) {
+            arguments.put(MAX_PRIORITY_ARGUMENT, DEFAULT_MAX_PRIORITY);
+        }
+        return arguments;
+    }
+
+    private boolean usesPriorities(Class<?> iClazz) {
+        return iClazz.isAnnotationPresent(MessagePriority.class) || Arrays.stream(iClazz.getMethods())
+                .anyMatch(method -> method.isAnnotationPresent(MessagePriority.class));
+    }
+
     private Class<?> getRabbitRpcInterface(Object candidate) {
         Class<?> clazz = ClassUtils.getUserClass(candidate);
         List<Class<?>> interfaces = Arrays.stream(clazz.getInterfaces())
@@ -243,10 +510,15 @@ class RabbitRpcAutoConfigure {
     }
 
     @SneakyThrows
-    private void createMessageListenerContainer(Queue queue) {
+    private void createMessageListenerContainer(Queue queue, List<Object> beans, boolean partition,
+                                                List<Long> retryDelays) {
         MethodRabbitListenerEndpoint endpoint = new MethodRabbitListenerEndpoint();
         RabbitRpcValidator rpcValidator = new RabbitRpcValidator(validator, getServiceName());
-        RabbitRpcMessageHandler handler = new RabbitRpcMessageHandler(rpcValidator, messageConverter, methodHandles);
+        ConsumerLoad load = new ConsumerLoad();
+        RabbitRpcMessageHandler handler = new RabbitRpcMessageHandler(rpcValidator, messageConverter, compressionRegistry,
+                claimCheckRegistry, streamRegistry, methodHandles, routeRegistry, admissionCheck, load, bulkheadRegistry,
+                rabbitTemplate, errorHandler, new RetryPolicy(queue.getName(), retryDelays, rabbitTemplate,
+                compressionRegistry, claimCheckRegistry, metrics));
         Method handleMethod = handler.getClass().getMethod(HANDLER_METHOD_NAME, Message.class, Channel.class, MessageProperties.class);
         endpoint.setId(queue.getName() + "-" + getServiceName());
         endpoint.setQueues(queue);
@@ -256,10 +528,77 @@ class RabbitRpcAutoConfigure {
         endpoint.setMessageHandlerMethodFactory(messageHandlerMethodFactory);
         endpoint.setBeanFactory(applicationContext);
         endpoint.setAdmin(amqpAdmin);
+        String queueContainerType = getContainerType(resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::containerType));
+        String concurrency = partition ? "1" : resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::concurrency);
+        if (concurrency != null) {
+            // The direct container takes a fixed number of consumers, the upper bound of a range
+            endpoint.setConcurrency(DIRECT_CONTAINER.equals(queueContainerType)
+                    ? concurrency.substring(concurrency.lastIndexOf('-') + 1) : concurrency);
+        }
         RabbitListenerEndpointRegistry registry = applicationContext.getBean(
                 RabbitListenerConfigUtils.RABBIT_LISTENER_ENDPOINT_REGISTRY_BEAN_NAME,
                 RabbitListenerEndpointRegistry.class);
-        registry.registerListenerContainer(endpoint, rabbitListenerContainerFactory);
+        registry.registerListenerContainer(endpoint, getListenerContainerFactory(queueContainerType));
+        configureContainer((AbstractMessageListenerContainer) registry.getListenerContainer(endpoint.getId()),
+                queue, beans, load, partition, !retryDelays.isEmpty());
+    }
+
+    /**
+     * Applies the prefetch, executor and autoscaling overrides of the interfaces served by the queue.
+     * Queues with retry tiers dead-letter rejected requests to their parking queue instead of requeueing them,
+     * and queues with a maximum number of deliveries quarantine poison messages before any other post-processing.
+     */
+    private void configureContainer(AbstractMessageListenerContainer container, Queue queue, List<Object> beans,
+                                    ConsumerLoad load, boolean partition, boolean retry) {
+        if (retry) {
+            container.setDefaultRequeueRejected(false);
+        }
+        String prefetch = resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::prefetch);
+        if (prefetch != null) {
+            container.setPrefetchCount(Integer.parseInt(prefetch));
+        }
+        String executorBeanName = resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::executor);
+        if (executorBeanName != null) {
+            container.setTaskExecutor(applicationContext.getBean(executorBeanName, Executor.class));
+        }
+        String maxDeliveries = resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::maxDeliveries);
+        if (maxDeliveries != null) {
+            String quarantineQueueName = PoisonMessageQuarantine.getQuarantineQueueName(queue.getName());
+            declareQueue(new Queue(quarantineQueueName, false));
+            container.setAfterReceivePostProcessors(new PoisonMessageQuarantine(queue.getName(),
+                    Integer.parseInt(maxDeliveries), rabbitTemplate), claimCheckRegistry::checkOut,
+                    compressionRegistry::decompress);
+        }
+        String autoscale = resolveQueueSetting(queue.getName(), beans, RabbitRpcInterface::autoscale);
+        if (autoscale != null && !partition) {
+            List<Integer> bounds = Arrays.stream(autoscale.split("-")).map(Integer::parseInt).toList();
+            int maxPrefetch = prefetch != null ? Integer.parseInt(prefetch)
+                    : AbstractMessageListenerContainer.DEFAULT_PREFETCH_COUNT;
+            autoscaler.register(queue.getName(), container, load, bounds.get(0), bounds.get(bounds.size() - 1),
+                    maxPrefetch);
+        }
+    }
+
+    /**
+     * Resolves a listener setting of the interfaces served by a queue, which share its listener container.
+     *
+     * @return the setting, or {@code null} if none of the interfaces defines it
+     * @throws IllegalStateException if the interfaces define different values
+     */
+    private String resolveQueueSetting(String queueName, List<Object> beans, Function<RabbitRpcInterface, String> setting) {
+        List<String> values = beans.stream()
+                .map(bean -> getRabbitRpcInterface(bean).getAnnotation(RabbitRpcInterface.class))
+                .map(annotation -> expressionResolver.resolveValue(setting.apply(annotation)))
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .filter(value -> !value.isBlank())
+                .distinct()
+                .toList();
+        if (values.size() > 1) {
+            throw new IllegalStateException("Conflicting listener settings " + values + " of interfaces sharing queue "
+                    + queueName);
+        }
+        return values.isEmpty() ? null : values.get(0);
     }
 
     private RabbitListenerErrorHandler getErrorHandler(EnableRabbitRpc annotation, Map<Class<?>, Map<Method, MethodHandle>> methodHandles) {
@@ -268,7 +607,16 @@ class RabbitRpcAutoConfigure {
             return applicationContext.getBean(errorHandlerBeanName, RabbitListenerErrorHandler.class);
         } else {
             RabbitRpcErrorMapping errorMapping = getErrorMapping();
-            return new RabbitRpcErrorHandler(getServiceName(), errorMapping, methodHandles);
+            return new RabbitRpcErrorHandler(getServiceName(), errorMapping, methodHandles, routeRegistry);
+        }
+    }
+
+    private BlobStore getBlobStore(EnableRabbitRpc annotation) {
+        String blobStoreBeanName = expressionResolver.resolveValue(annotation.blobStore());
+        if (blobStoreBeanName != null && !blobStoreBeanName.isBlank()) {
+            return applicationContext.getBean(blobStoreBeanName, BlobStore.class);
+        } else {
+            return applicationContext.getBeanProvider(BlobStore.class).getIfUnique();
         }
     }
 
@@ -291,6 +639,44 @@ class RabbitRpcAutoConfigure {
         }
     }
 
+    /**
+     * Resolves a listener container type, falling back to the type of {@link EnableRabbitRpc#containerType()}.
+     */
+    private String getContainerType(String expression) {
+        String value = expression != null ? expressionResolver.resolveValue(expression) : null;
+        if (value == null || value.isBlank()) {
+            return containerType != null ? containerType : SIMPLE_CONTAINER;
+        }
+        return value.toLowerCase();
+    }
+
+    private long getAutoscaleInterval(EnableRabbitRpc annotation) {
+        String value = expressionResolver.resolveValue(annotation.autoscaleInterval());
+        return value == null || value.isBlank() ? ConsumerAutoscaler.DEFAULT_INTERVAL : Long.parseLong(value);
+    }
+
+    private int getMaxDecompressedSize(EnableRabbitRpc annotation) {
+        String value = expressionResolver.resolveValue(annotation.maxDecompressedSize());
+        int maxDecompressedSize = value == null || value.isBlank()
+                ? PayloadCompressor.DEFAULT_MAX_DECOMPRESSED_SIZE : Integer.parseInt(value);
+        if (maxDecompressedSize < 0) {
+            throw new IllegalStateException("Invalid maxDecompressedSize: " + value);
+        }
+        return maxDecompressedSize;
+    }
+
+    private Double getQueueWaitRatio(EnableRabbitRpc annotation) {
+        String value = expressionResolver.resolveValue(annotation.queueWaitRatio());
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        double queueWaitRatio = Double.parseDouble(value);
+        if (!(queueWaitRatio > 0)) {
+            throw new IllegalStateException("Invalid queueWaitRatio: " + value);
+        }
+        return queueWaitRatio;
+    }
+
     private List<Integer> getConcurrency(EnableRabbitRpc annotation) {
         String value = expressionResolver.resolveValue(annotation.concurrency());
         if (value != null && !value.isBlank()) {
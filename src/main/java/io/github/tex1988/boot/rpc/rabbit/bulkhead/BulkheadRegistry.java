@@ -0,0 +1,132 @@
+package io.github.tex1988.boot.rpc.rabbit.bulkhead;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.Bulkhead;
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
+import io.github.tex1988.boot.rpc.rabbit.util.Utils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the {@link Bulkhead} executors of served methods and runs requests on them.
+ * <p>
+ * The executor of a method is resolved once, when its interface is registered, from the annotation of the method
+ * or of its interface. Methods sharing an annotation share its executor. Dedicated pools are shut down by
+ * {@link #destroy()}.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class BulkheadRegistry {
+
+    private static final String BULKHEAD_FULL = "bulkhead_full";
+
+    private final ApplicationContext applicationContext;
+    private final RabbitRpcBeanExpressionResolver expressionResolver;
+    private final String serviceName;
+    private final RabbitRpcMetrics metrics;
+    private final Map<Method, Executor> executors = new ConcurrentHashMap<>();
+    private final Map<AnnotatedElement, Executor> executorsByElement = new ConcurrentHashMap<>();
+    private final List<ExecutorService> pools = new ArrayList<>();
+
+    public BulkheadRegistry(ApplicationContext applicationContext, RabbitRpcBeanExpressionResolver expressionResolver,
+                            String serviceName, RabbitRpcMetrics metrics) {
+        this.applicationContext = applicationContext;
+        this.expressionResolver = expressionResolver;
+        this.serviceName = serviceName;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Resolves the executors of the methods of an interface.
+     *
+     * @param iClazz the interface
+     */
+    public void register(Class<?> iClazz) {
+        for (Method method : iClazz.getMethods()) {
+            AnnotatedElement element = method.isAnnotationPresent(Bulkhead.class) ? method
+                    : iClazz.isAnnotationPresent(Bulkhead.class) ? iClazz : null;
+            if (element != null) {
+                executors.put(method, executorsByElement.computeIfAbsent(element, this::createExecutor));
+            }
+        }
+    }
+
+    /**
+     * @param method the served method
+     * @return whether the method runs on a bulkhead executor
+     */
+    public boolean isBulkheaded(Method method) {
+        return executors.containsKey(method);
+    }
+
+    /**
+     * Runs a request on the executor of its method.
+     *
+     * @param method the served method
+     * @param task   the invocation of the method
+     * @throws RabbitRpcServiceException if the executor rejects the request
+     */
+    public void execute(Method method, Runnable task) {
+        try {
+            executors.get(method).execute(task);
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejection(BULKHEAD_FULL);
+            throw new RabbitRpcServiceException(Utils.getTimestamp(), serviceName,
+                    ErrorStatusCode.SERVICE_UNAVAILABLE.getCode(), "Bulkhead of method " + method.getName()
+                    + " is full");
+        }
+    }
+
+    /**
+     * Shuts down the dedicated pools.
+     */
+    public synchronized void destroy() {
+        pools.forEach(ExecutorService::shutdown);
+        pools.clear();
+    }
+
+    private Executor createExecutor(AnnotatedElement element) {
+        Bulkhead annotation = element.getAnnotation(Bulkhead.class);
+        String executorBeanName = expressionResolver.resolveValue(annotation.executor());
+        if (executorBeanName != null && !executorBeanName.isBlank()) {
+            return applicationContext.getBean(executorBeanName, Executor.class);
+        }
+        int concurrency = getInt(annotation.concurrency(), 1);
+        int queueCapacity = getInt(annotation.queueCapacity(), 0);
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        String name = element instanceof Method method
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : ((Class<?>) element).getSimpleName();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS, queue,
+                new CustomizableThreadFactory("rabbit-rpc-bulkhead-" + name + "-"));
+        synchronized (this) {
+            pools.add(pool);
+        }
+        return pool;
+    }
+
+    private int getInt(String expression, int defaultValue) {
+        String value = expressionResolver.resolveValue(expression);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.tex1988.boot.rpc.rabbit.claimcheck;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stores oversized message bodies outside the broker (claim-check pattern).
+ * <p>
+ * The sender stores the body and sends only the returned reference; the receiver reads the body
+ * back by that reference and deletes it once the message is handled. Client and server must use stores
+ * backed by the same storage. Bodies of messages that are never received (e.g. expired requests) or never
+ * handled (e.g. dead-lettered requests) are not deleted by the receiver, so persistent stores should
+ * expire old blobs on their own.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public interface BlobStore {
+
+    /**
+     * Stores a body.
+     *
+     * @param body the body to store
+     * @return the reference to send with the message
+     * @throws IOException if the body cannot be stored
+     */
+    String put(byte[] body) throws IOException;
+
+    /**
+     * Opens a stored body for reading.
+     *
+     * @param reference the reference returned by {@link #put(byte[])}
+     * @return the stream of the body
+     * @throws IOException if the body cannot be read
+     */
+    InputStream open(String reference) throws IOException;
+
+    /**
+     * Deletes a stored body. Deleting a missing body is not an error.
+     *
+     * @param reference the reference returned by {@link #put(byte[])}
+     * @throws IOException if the body cannot be deleted
+     */
+    void delete(String reference) throws IOException;
+}
@@ -0,0 +1,182 @@
+package io.github.tex1988.boot.rpc.rabbit.claimcheck;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.CLAIMED_BODY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.CLAIM_CHECK_HEADER;
+
+/**
+ * Offloads oversized message bodies of Rabbit RPC interfaces to a {@link BlobStore} and restores received ones.
+ * <p>
+ * The threshold of an interface is resolved once from {@link RabbitRpcInterface#claimCheckThreshold()}.
+ * Bodies reaching it are stored in the blob store and sent as an empty body with the reference in the
+ * {@value CLAIM_CHECK_HEADER} header. Received messages with this header are read back from the store.
+ * </p>
+ * <p>
+ * A restored request keeps the reference of its stored body in the {@value CLAIMED_BODY_HEADER} header, and the
+ * body is deleted by {@link #release(Message)} once the request has been handled. The handler answers every
+ * request it receives, errors included, so the request is acknowledged right after; this holds for the
+ * {@code AUTO} (default) and {@code NONE} acknowledge modes of the listener container. The {@code MANUAL} mode
+ * is not supported, as the handler never acknowledges requests itself. Bodies of requests rejected before
+ * reaching the handler (e.g. undecodable or dead-lettered requests) are kept for the store to expire.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ClaimCheckRegistry {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final RabbitRpcBeanExpressionResolver expressionResolver;
+    private final BlobStore blobStore;
+    private final Map<Class<?>, Integer> thresholds = new ConcurrentHashMap<>();
+
+    /**
+     * @param expressionResolver the resolver of annotation attributes
+     * @param blobStore          the blob store, or {@code null} if none is configured
+     */
+    public ClaimCheckRegistry(RabbitRpcBeanExpressionResolver expressionResolver, BlobStore blobStore) {
+        this.expressionResolver = expressionResolver;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Resolves the claim-check threshold of an interface.
+     *
+     * @param iClazz the Rabbit RPC interface
+     * @throws IllegalStateException if a threshold is set but no {@link BlobStore} is configured
+     */
+    public void register(Class<?> iClazz) {
+        thresholds.computeIfAbsent(iClazz, this::resolveThreshold);
+    }
+
+    /**
+     * Stores the body of a message of the given interface in the blob store, if claim check is enabled for it
+     * and the body reaches the threshold.
+     *
+     * @param iClazz  the Rabbit RPC interface
+     * @param message the message to send
+     * @return the message carrying the reference, or the original message
+     * @throws AmqpException if the body cannot be stored
+     */
+    public Message checkIn(Class<?> iClazz, Message message) {
+        // A republished request must not carry the reference of the body it was received with
+        message.getMessageProperties().getHeaders().remove(CLAIMED_BODY_HEADER);
+        byte[] body = message.getBody();
+        if (body.length < thresholds.computeIfAbsent(iClazz, this::resolveThreshold)) {
+            return message;
+        }
+        String reference;
+        try {
+            reference = blobStore.put(body);
+        } catch (IOException e) {
+            throw new AmqpException("Failed to store message body of " + iClazz.getName(), e);
+        }
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(CLAIM_CHECK_HEADER, reference);
+        return new Message(EMPTY_BODY, properties);
+    }
+
+    /**
+     * Restores the body of a received request from the blob store. The stored body is deleted by
+     * {@link #release(Message)} once the request has been handled.
+     *
+     * @param message the received message
+     * @return the restored message, or the original message if it carries no reference
+     * @throws MessageConversionException if the body cannot be read
+     */
+    public Message checkOut(Message message) {
+        String reference = getReference(message);
+        if (reference == null) {
+            return message;
+        }
+        Message restored = restore(message, reference);
+        restored.getMessageProperties().setHeader(CLAIMED_BODY_HEADER, reference);
+        return restored;
+    }
+
+    /**
+     * Restores the body of a received reply from the blob store and deletes the stored body.
+     * Replies are consumed without acknowledgement and never redelivered.
+     *
+     * @param message the received reply
+     * @return the restored reply, or the original reply if it carries no reference
+     * @throws MessageConversionException if the body cannot be read
+     */
+    public Message checkOutReply(Message message) {
+        String reference = getReference(message);
+        if (reference == null) {
+            return message;
+        }
+        Message restored = restore(message, reference);
+        delete(reference);
+        return restored;
+    }
+
+    /**
+     * Deletes the stored body of a handled request, if it was restored by {@link #checkOut(Message)}.
+     * Releasing a request again has no effect.
+     *
+     * @param message the handled request
+     */
+    public void release(Message message) {
+        Object reference = message.getMessageProperties().getHeaders().remove(CLAIMED_BODY_HEADER);
+        if (reference != null) {
+            delete(reference.toString());
+        }
+    }
+
+    private String getReference(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        return properties != null ? properties.getHeader(CLAIM_CHECK_HEADER) : null;
+    }
+
+    private Message restore(Message message, String reference) {
+        if (blobStore == null) {
+            throw new MessageConversionException("Received claim-check message " + reference + " without a BlobStore");
+        }
+        byte[] body;
+        try (InputStream inputStream = blobStore.open(reference)) {
+            body = inputStream.readAllBytes();
+        } catch (IOException e) {
+            // Fatal for the container, so the message is not redelivered forever
+            throw new MessageConversionException("Failed to read claim-check message " + reference, e);
+        }
+        MessageProperties properties = message.getMessageProperties();
+        properties.getHeaders().remove(CLAIM_CHECK_HEADER);
+        return new Message(body, properties);
+    }
+
+    private void delete(String reference) {
+        try {
+            blobStore.delete(reference);
+        } catch (IOException e) {
+            log.warn("Failed to delete claim-check message body {}", reference, e);
+        }
+    }
+
+    private Integer resolveThreshold(Class<?> iClazz) {
+        RabbitRpcInterface annotation = iClazz.getAnnotation(RabbitRpcInterface.class);
+        String threshold = annotation != null ? expressionResolver.resolveValue(annotation.claimCheckThreshold()) : null;
+        if (threshold == null || threshold.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        if (blobStore == null) {
+            throw new IllegalStateException("Claim check of " + iClazz.getName() + " requires a BlobStore bean");
+        }
+        return Integer.parseInt(threshold);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.tex1988.boot.rpc.rabbit.claimcheck;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * A {@link BlobStore} keeping bodies as files in a directory, e.g. on a volume shared by client and server.
+ * <p>
+ * Bodies are written to a temporary file first and moved into place, so a reader never sees a partial body.
+ * References are random UUIDs; other references are rejected, so they cannot point outside the directory.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public FileSystemBlobStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public String put(byte[] body) throws IOException {
+        String reference = UUID.randomUUID().toString();
+        Path temp = directory.resolve(reference + TEMP_SUFFIX);
+        Files.write(temp, body);
+        Files.move(temp, directory.resolve(reference), StandardCopyOption.ATOMIC_MOVE);
+        return reference;
+    }
+
+    @Override
+    public InputStream open(String reference) throws IOException {
+        return Files.newInputStream(resolve(reference));
+    }
+
+    @Override
+    public void delete(String reference) throws IOException {
+        Files.deleteIfExists(resolve(reference));
+    }
+
+    private Path resolve(String reference) {
+        return directory.resolve(UUID.fromString(reference).toString());
+    }
+}
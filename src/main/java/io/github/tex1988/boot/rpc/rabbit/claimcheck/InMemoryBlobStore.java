@@ -0,0 +1,52 @@
+package io.github.tex1988.boot.rpc.rabbit.claimcheck;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BlobStore} keeping bodies in memory.
+ * <p>
+ * Only usable if client and server run in the same JVM, e.g. for tests.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class InMemoryBlobStore implements BlobStore {
+
+    private final Map<String, byte[]> blobs = new ConcurrentHashMap<>();
+
+    @Override
+    public String put(byte[] body) {
+        String reference = UUID.randomUUID().toString();
+        blobs.put(reference, body);
+        return reference;
+    }
+
+    @Override
+    public InputStream open(String reference) throws FileNotFoundException {
+        byte[] body = blobs.get(reference);
+        if (body == null) {
+            throw new FileNotFoundException("Blob not found: " + reference);
+        }
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void delete(String reference) {
+        blobs.remove(reference);
+    }
+
+    /**
+     * Returns the number of stored bodies.
+     *
+     * @return the number of stored bodies
+     */
+    public int size() {
+        return blobs.size();
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.tex1988.boot.rpc.rabbit.compression;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DICTIONARY_HEADER;
+
+/**
+ * Compresses message bodies per Rabbit RPC interface and decompresses received messages.
+ * <p>
+ * The compressor and the size threshold of an interface are resolved once from
+ * {@link RabbitRpcInterface#compression()} and {@link RabbitRpcInterface#compressionThreshold()}.
+ * Bodies smaller than the threshold, and bodies that do not shrink, are sent as is.
+ * Received messages are decompressed by the encoding prefix of their {@code contentEncoding},
+ * so a receiver can always read compressed messages, whatever its own settings are.
+ * </p>
+ * <p>
+ * Zstandard dictionaries of {@link RabbitRpcInterface#compressionDictionary()} are loaded when an interface
+ * is registered, and messages compressed with a dictionary carry its id in the {@value DICTIONARY_HEADER} header.
+ * </p>
+ * <p>
+ * Received bodies declaring a decompressed size above the configured maximum are rejected before any buffer
+ * is allocated, so a small message cannot make the receiver allocate gigabytes.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class CompressionRegistry {
+
+    public static final int DEFAULT_THRESHOLD = 16 * 1024;
+    public static final int DEFAULT_DICTIONARY_THRESHOLD = 0;
+
+    private static final String NONE = "none";
+    private static final String LZ4_CLASS = "net.jpountz.lz4.LZ4Factory";
+    private static final String ZSTD_CLASS = "com.github.luben.zstd.Zstd";
+    private static final CompressionSettings DISABLED = new CompressionSettings(null, Integer.MAX_VALUE);
+
+    private final RabbitRpcBeanExpressionResolver expressionResolver;
+    private final RabbitRpcMetrics metrics;
+    private final int maxDecompressedSize;
+    private final Map<String, PayloadCompressor> compressors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CompressionSettings> settings = new ConcurrentHashMap<>();
+    private final Map<String, ZstdDictionaryPayloadCompressor> dictionariesByLocation = new ConcurrentHashMap<>();
+    private final Map<Long, ZstdDictionaryPayloadCompressor> dictionaries = new ConcurrentHashMap<>();
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader(getClass().getClassLoader());
+
+    /**
+     * @param expressionResolver  resolves the compression attributes of the interfaces
+     * @param metrics             records the compression ratio and time
+     * @param maxDecompressedSize the largest size a received body may be decompressed to, in bytes
+     */
+    public CompressionRegistry(RabbitRpcBeanExpressionResolver expressionResolver, RabbitRpcMetrics metrics,
+                               int maxDecompressedSize) {
+        this.expressionResolver = expressionResolver;
+        this.metrics = metrics;
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    /**
+     * Resolves the compression settings of an interface and loads its dictionary, if any,
+     * so that messages compressed with it can be decompressed.
+     *
+     * @param iClazz the Rabbit RPC interface
+     */
+    public void register(Class<?> iClazz) {
+        settings.computeIfAbsent(iClazz, this::resolveSettings);
+    }
+
+    /**
+     * Compresses the body of a message of the given interface, if compression is enabled for it
+     * and the body reaches the threshold.
+     *
+     * @param iClazz  the Rabbit RPC interface
+     * @param message the message to compress
+     * @return the compressed message, or the original message
+     */
+    public Message compress(Class<?> iClazz, Message message) {
+        CompressionSettings compressionSettings = settings.computeIfAbsent(iClazz, this::resolveSettings);
+        byte[] body = message.getBody();
+        if (body.length < compressionSettings.threshold()) {
+            return message;
+        }
+        PayloadCompressor compressor = compressionSettings.compressor();
+        long start = System.nanoTime();
+        byte[] compressed = compressor.compress(body);
+        metrics.recordCompression(compressor.getEncoding(), body.length, compressed.length, System.nanoTime() - start);
+        if (compressed.length >= body.length) {
+            return message;
+        }
+        MessageProperties properties = message.getMessageProperties();
+        if (compressor instanceof ZstdDictionaryPayloadCompressor dictionaryCompressor) {
+            properties.setHeader(DICTIONARY_HEADER, dictionaryCompressor.getDictionaryId());
+        }
+        String contentEncoding = properties.getContentEncoding();
+        properties.setContentEncoding(contentEncoding == null
+                ? compressor.getEncoding()
+                : compressor.getEncoding() + ":" + contentEncoding);
+        return new Message(compressed, properties);
+    }
+
+    /**
+     * Decompresses a message whose {@code contentEncoding} starts with a supported compression encoding.
+     *
+     * @param message the received message
+     * @return the decompressed message, or the original message if it is not compressed
+     * @throws MessageConversionException if the message cannot be decompressed
+     */
+    public Message decompress(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        String contentEncoding = properties != null ? properties.getContentEncoding() : null;
+        if (contentEncoding == null) {
+            return message;
+        }
+        int separator = contentEncoding.indexOf(':');
+        String encoding = separator < 0 ? contentEncoding : contentEncoding.substring(0, separator);
+        if (!isSupported(encoding)) {
+            return message;
+        }
+        byte[] body = message.getBody();
+        long start = System.nanoTime();
+        byte[] decompressed;
+        try {
+            decompressed = getCompressor(encoding, properties.getHeader(DICTIONARY_HEADER)).decompress(body);
+        } catch (MessageConversionException e) {
+            throw e;
+        } catch (Exception e) {
+            // Fatal for the container, so the message is not redelivered forever
+            throw new MessageConversionException("Failed to decompress " + contentEncoding + " message", e);
+        }
+        metrics.recordDecompression(encoding, body.length, decompressed.length, System.nanoTime() - start);
+        properties.setContentEncoding(separator < 0 ? null : contentEncoding.substring(separator + 1));
+        properties.getHeaders().remove(DICTIONARY_HEADER);
+        return new Message(decompressed, properties);
+    }
+
+    private CompressionSettings resolveSettings(Class<?> iClazz) {
+        RabbitRpcInterface annotation = iClazz.getAnnotation(RabbitRpcInterface.class);
+        String encoding = annotation != null ? expressionResolver.resolveValue(annotation.compression()) : null;
+        if (encoding == null || encoding.isBlank() || encoding.equalsIgnoreCase(NONE)) {
+            return DISABLED;
+        }
+        encoding = encoding.toLowerCase();
+        String threshold = expressionResolver.resolveValue(annotation.compressionThreshold());
+        String dictionary = expressionResolver.resolveValue(annotation.compressionDictionary());
+        if (dictionary == null || dictionary.isBlank()) {
+            return new CompressionSettings(getCompressor(encoding),
+                    threshold == null || threshold.isBlank() ? DEFAULT_THRESHOLD : Integer.parseInt(threshold));
+        }
+        if (!encoding.equals(ZstdPayloadCompressor.ENCODING)) {
+            throw new IllegalStateException("Compression dictionary requires zstd compression for " + iClazz.getName());
+        }
+        return new CompressionSettings(dictionariesByLocation.computeIfAbsent(dictionary, this::loadDictionary),
+                threshold == null || threshold.isBlank() ? DEFAULT_DICTIONARY_THRESHOLD : Integer.parseInt(threshold));
+    }
+
+    private ZstdDictionaryPayloadCompressor loadDictionary(String location) {
+        checkZstdPresent();
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            byte[] dictionary = inputStream.readAllBytes();
+            ZstdDictionaryPayloadCompressor compressor = new ZstdDictionaryPayloadCompressor(dictionary,
+                    ZstdPayloadCompressor.DEFAULT_LEVEL, maxDecompressedSize);
+            ZstdDictionaryPayloadCompressor existing = dictionaries.putIfAbsent(compressor.getDictionaryId(), compressor);
+            if (existing != null) {
+                throw new IllegalStateException("Duplicate Zstandard dictionary id "
+                        + compressor.getDictionaryId() + " in " + location);
+            }
+            return compressor;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load Zstandard dictionary " + location, e);
+        }
+    }
+
+    private PayloadCompressor getCompressor(String encoding, Object dictionaryId) {
+        if (dictionaryId == null) {
+            return getCompressor(encoding);
+        }
+        PayloadCompressor compressor = dictionaries.get(((Number) dictionaryId).longValue());
+        if (compressor == null) {
+            throw new IllegalStateException("Unknown Zstandard dictionary id " + dictionaryId);
+        }
+        return compressor;
+    }
+
+    private boolean isSupported(String encoding) {
+        return encoding.equals(Lz4PayloadCompressor.ENCODING) || encoding.equals(ZstdPayloadCompressor.ENCODING);
+    }
+
+    private PayloadCompressor getCompressor(String encoding) {
+        return compressors.computeIfAbsent(encoding, this::createCompressor);
+    }
+
+    private PayloadCompressor createCompressor(String encoding) {
+        if (encoding.equals(Lz4PayloadCompressor.ENCODING)) {
+            if (!ClassUtils.isPresent(LZ4_CLASS, getClass().getClassLoader())) {
+                throw new IllegalStateException("LZ4 compression requires at.yawk.lz4:lz4-java on the classpath");
+            }
+            return new Lz4PayloadCompressor(maxDecompressedSize);
+        }
+        if (encoding.equals(ZstdPayloadCompressor.ENCODING)) {
+            checkZstdPresent();
+            return new ZstdPayloadCompressor(ZstdPayloadCompressor.DEFAULT_LEVEL, maxDecompressedSize);
+        }
+        throw new IllegalArgumentException("Unsupported compression: " + encoding);
+    }
+
+    private void checkZstdPresent() {
+        if (!ClassUtils.isPresent(ZSTD_CLASS, getClass().getClassLoader())) {
+            throw new IllegalStateException("Zstandard compression requires com.github.luben:zstd-jni on the classpath");
+        }
+    }
+
+    private record CompressionSettings(PayloadCompressor compressor, int threshold) {
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.tex1988.boot.rpc.rabbit.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link PayloadCompressor} using the LZ4 block format, tuned for speed.
+ * <p>
+ * The compressed body is prefixed by the original body length as a 4-byte integer, which is checked against
+ * the maximum decompressed size before the output buffer is allocated.
+ * Requires {@code at.yawk.lz4:lz4-java} on the classpath.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class Lz4PayloadCompressor implements PayloadCompressor {
+
+    public static final String ENCODING = "lz4";
+
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final int maxDecompressedSize;
+
+    public Lz4PayloadCompressor() {
+        this(DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * @param maxDecompressedSize the largest size a body may be decompressed to, in bytes
+     */
+    public Lz4PayloadCompressor(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    @Override
+    public String getEncoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public byte[] compress(byte[] body) {
+        byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(body.length)];
+        ByteBuffer.wrap(compressed).putInt(body.length);
+        int length = compressor.compress(body, 0, body.length, compressed, Integer.BYTES);
+        return Arrays.copyOf(compressed, Integer.BYTES + length);
+    }
+
+    @Override
+    public byte[] decompress(byte[] body) {
+        if (body.length < Integer.BYTES) {
+            throw new MessageConversionException("Missing LZ4 length prefix");
+        }
+        int length = ByteBuffer.wrap(body).getInt();
+        if (length < 0 || length > maxDecompressedSize) {
+            throw new MessageConversionException("Invalid LZ4 decompressed size " + length
+                    + ", the maximum is " + maxDecompressedSize);
+        }
+        byte[] decompressed = new byte[length];
+        int decompressedLength = decompressor.decompress(body, Integer.BYTES, body.length - Integer.BYTES,
+                decompressed, 0);
+        if (decompressedLength != length) {
+            throw new IllegalArgumentException("Expected " + length + " bytes, got " + decompressedLength);
+        }
+        return decompressed;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.tex1988.boot.rpc.rabbit.compression;
+
+/**
+ * Compresses and decompresses message bodies.
+ * <p>
+ * Compressed messages are marked by prefixing the {@code contentEncoding} of the message with
+ * {@link #getEncoding()}, e.g. {@code lz4:UTF-8}, following the Spring AMQP convention.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public interface PayloadCompressor {
+
+    /**
+     * The default largest size a body may be decompressed to, in bytes.
+     */
+    int DEFAULT_MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Returns the encoding name written to the {@code contentEncoding} of compressed messages.
+     *
+     * @return the encoding name, e.g. {@code lz4}
+     */
+    String getEncoding();
+
+    /**
+     * Compresses a message body.
+     *
+     * @param body the body to compress
+     * @return the compressed body
+     */
+    byte[] compress(byte[] body);
+
+    /**
+     * Decompresses a message body created by {@link #compress(byte[])}.
+     *
+     * @param body the compressed body
+     * @return the original body
+     * @throws org.springframework.amqp.support.converter.MessageConversionException if the body declares an
+     *                                                                                invalid or too large size
+     */
+    byte[] decompress(byte[] body);
+}
@@ -0,0 +1,39 @@
+package io.github.tex1988.boot.rpc.rabbit.compression;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Trains Zstandard dictionaries offline from captured message bodies of an interface.
+ * <p>
+ * Capture a few hundred to a few thousand representative bodies, e.g. by writing
+ * {@code ForyMessageConverter#toMessage(...)} bodies of typical arguments and return values to files,
+ * train a dictionary and ship it as a classpath resource referenced by
+ * {@link io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface#compressionDictionary()}.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ZstdDictionaryTrainer {
+
+    public static final int DEFAULT_DICTIONARY_SIZE = 16 * 1024;
+
+    /**
+     * Trains a dictionary from sample bodies.
+     *
+     * @param samples        the sample bodies
+     * @param dictionarySize the maximum dictionary size in bytes
+     * @return the trained dictionary
+     */
+    public static byte[] train(List<byte[]> samples, int dictionarySize) {
+        int samplesSize = samples.stream().mapToInt(sample -> sample.length).sum();
+        ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, dictionarySize);
+        samples.forEach(trainer::addSample);
+        return trainer.trainSamples();
+    }
+}
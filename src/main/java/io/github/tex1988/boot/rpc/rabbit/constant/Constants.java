@@ -11,8 +11,28 @@ public class Constants {
     public static final String SERVICE_HEADER = "__Service__";
     public static final String METHOD_HEADER = "__Method__";
     public static final String TYPE_ID_HEADER = "__TypeId__";
+    public static final String SIGNATURE_HEADER = "__Signature__";
+    public static final String ENVELOPE_HEADER = "__Envelope__";
+    public static final String DICTIONARY_HEADER = "__Dictionary__";
+    public static final String CLAIM_CHECK_HEADER = "__ClaimCheck__";
+    public static final String CLAIMED_BODY_HEADER = "__ClaimedBody__";
+    public static final String STREAM_CREDIT_HEADER = "__StreamCredit__";
+    public static final String STREAM_CONTROL_HEADER = "__StreamControl__";
+    public static final String STREAM_END_HEADER = "__StreamEnd__";
+    public static final String STREAM_UPLOAD_HEADER = "__StreamUpload__";
+    public static final String ROUTE_HEADER = "__Route__";
+    public static final String RAW_BODY_HEADER = "__RawBody__";
+    public static final String ACCEPT_RAW_BODY_HEADER = "__AcceptRawBody__";
+    public static final String DEADLINE_HEADER = "__Deadline__";
+    public static final String SENT_AT_HEADER = "__SentAt__";
+    public static final String RETRY_COUNT_HEADER = "__RetryCount__";
+    public static final String RETRY_ERROR_HEADER = "__RetryError__";
+    public static final String QUARANTINED_HEADER = "__Quarantined__";
 
     public static final String HANDLER_METHOD_NAME = "handleMessage";
     public static final List<String> DEFAULT_ALLOWED_SERIALIZATION_PATTERNS = List.of(
             "io.github.tex1988.boot.rpc.rabbit.model.*");
+
+    public static final String SERIALIZATION_INDEX_LOCATION = "META-INF/rabbit-rpc/serialization.index";
+    public static final String SERIALIZATION_INDEX_IGNORE_PROPERTY = "rabbit.rpc.index.ignore";
 }
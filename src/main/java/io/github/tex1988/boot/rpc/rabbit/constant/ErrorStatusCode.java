@@ -15,7 +15,10 @@ import lombok.Getter;
  *     <li>{@link #UNAUTHORIZED} - 401: The client must authenticate itself to get the requested response.</li>
  *     <li>{@link #FORBIDDEN} - 403: The client does not have access rights to the content.</li>
  *     <li>{@link #NOT_FOUND} - 404: The server cannot find the requested resource.</li>
+ *     <li>{@link #REQUEST_TIMEOUT} - 408: The request was not processed before its deadline.</li>
+ *     <li>{@link #UNSUPPORTED_MEDIA_TYPE} - 415: The content type of the request is not supported.</li>
  *     <li>{@link #INTERNAL_SERVER_ERROR} - 500: The server encountered an unexpected condition.</li>
+ *     <li>{@link #SERVICE_UNAVAILABLE} - 503: The server cannot take the request at the moment.</li>
  * </ul>
  *
  * @author tex1988
@@ -44,10 +47,25 @@ public enum ErrorStatusCode {
      */
     NOT_FOUND(404),
 
+    /**
+     * 408: The request was not processed before its deadline.
+     */
+    REQUEST_TIMEOUT(408),
+
+    /**
+     * 415: The content type of the request is not supported.
+     */
+    UNSUPPORTED_MEDIA_TYPE(415),
+
     /**
      * 500: The server encountered an unexpected condition.
      */
-    INTERNAL_SERVER_ERROR(500);
+    INTERNAL_SERVER_ERROR(500),
+
+    /**
+     * 503: The server cannot take the request at the moment.
+     */
+    SERVICE_UNAVAILABLE(503);
 
     /**
      * The numeric value of the HTTP status code.
@@ -0,0 +1,116 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import org.apache.fory.Fory;
+import org.apache.fory.memory.MemoryBuffer;
+import org.apache.fory.serializer.Serializer;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Positional values of an RPC call together with their declared types.
+ * <p>
+ * The envelope is written by {@link EnvelopeSerializer} in a single Fory session: {@code null} values take one byte,
+ * values of exactly the declared type are written without a class tag, all other values with their class.
+ * References shared between values are preserved.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+final class ArgumentEnvelope {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte MONOMORPHIC_VALUE = 1;
+    private static final byte POLYMORPHIC_VALUE = 2;
+
+    private final Object[] values;
+    private final Class<?>[] types;
+
+    ArgumentEnvelope(Object[] values, Class<?>[] types) {
+        if (values.length != types.length) {
+            throw new IllegalArgumentException("Expected " + types.length + " values, got " + values.length);
+        }
+        this.values = values;
+        this.types = types;
+    }
+
+    Object[] getValues() {
+        return values;
+    }
+
+    /**
+     * Reads the envelope against the declared types, which are not part of the stream.
+     * <p>
+     * A Fory instance is used by one thread at a time, so the declared types of the envelope being read
+     * are set on its serializer right before deserialization.
+     * </p>
+     */
+    static Object[] read(Fory fory, byte[] bytes, Class<?>[] types) {
+        EnvelopeSerializer serializer = (EnvelopeSerializer) fory.getSerializer(ArgumentEnvelope.class);
+        serializer.types = types;
+        try {
+            return fory.deserializeJavaObject(bytes, ArgumentEnvelope.class).getValues();
+        } finally {
+            serializer.types = null;
+        }
+    }
+
+    static byte[] write(Fory fory, Object[] values, Class<?>[] types) {
+        return fory.serializeJavaObject(new ArgumentEnvelope(values, types));
+    }
+
+    static class EnvelopeSerializer extends Serializer<ArgumentEnvelope> {
+
+        private Class<?>[] types;
+
+        EnvelopeSerializer(Fory fory) {
+            super(fory, ArgumentEnvelope.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(MemoryBuffer buffer, ArgumentEnvelope envelope) {
+            buffer.writeVarUint32(envelope.values.length);
+            for (int i = 0; i < envelope.values.length; i++) {
+                Object value = envelope.values[i];
+                if (value == null) {
+                    buffer.writeByte(NULL_VALUE);
+                } else if (value.getClass() == ClassUtils.resolvePrimitiveIfNecessary(envelope.types[i])) {
+                    buffer.writeByte(MONOMORPHIC_VALUE);
+                    fory.writeRef(buffer, value, (Serializer<Object>) fory.getSerializer(value.getClass()));
+                } else {
+                    buffer.writeByte(POLYMORPHIC_VALUE);
+                    fory.writeRef(buffer, value);
+                }
+            }
+        }
+
+        @Override
+        public ArgumentEnvelope read(MemoryBuffer buffer) {
+            if (types == null) {
+                throw new IllegalStateException("Declared types of the envelope are not set");
+            }
+            int length = buffer.readVarUint32();
+            if (length != types.length) {
+                throw new IllegalArgumentException("Expected " + types.length + " values, got " + length);
+            }
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(types[i]);
+                byte kind = buffer.readByte();
+                if (kind == MONOMORPHIC_VALUE) {
+                    values[i] = fory.readRef(buffer, fory.getSerializer(type));
+                } else if (kind == POLYMORPHIC_VALUE) {
+                    Object value = fory.readRef(buffer);
+                    if (value != null && !type.isInstance(value)) {
+                        throw new IllegalArgumentException("Value of type " + value.getClass().getName()
+                                + " is not assignable to " + type.getName());
+                    }
+                    values[i] = value;
+                } else if (kind != NULL_VALUE) {
+                    throw new IllegalArgumentException("Invalid envelope value kind: " + kind);
+                }
+            }
+            return new ArgumentEnvelope(values, types);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.tex1988.boot.rpc.rabbit.converter;
 
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import io.github.tex1988.boot.rpc.rabbit.model.RabbitRpcConverterMapping;
 import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
 import io.github.tex1988.boot.rpc.rabbit.util.Utils;
 import lombok.AllArgsConstructor;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @AllArgsConstructor
 public class ConverterFactory {
@@ -17,35 +22,52 @@ public class ConverterFactory {
     private final ApplicationContext applicationContext;
     private final RabbitRpcBeanExpressionResolver expressionResolver;
 
-    public MessageConverter getConverter(String beanExpression, String[] patterns, List<Integer> concurrency) {
+    public MessageConverterRegistry getConverter(String beanExpression, String[] patterns, String poolSizeExpression,
+                                                 RabbitRpcMetrics metrics) {
+        Map<String, MessageConverter> converters = new HashMap<>();
+        MessageConverter defaultConverter;
         String converterBeanName = expressionResolver.resolveValue(beanExpression);
         if (converterBeanName != null && !converterBeanName.isBlank()) {
-            return applicationContext.getBean(converterBeanName, MessageConverter.class);
+            defaultConverter = applicationContext.getBean(converterBeanName, MessageConverter.class);
         } else {
             List<String> allowedSerializationClasses = Utils.getAllowedClassesNames(patterns);
-            Integer minPoolSize = getMinPoolSize(concurrency);
-            Integer maxPoolSize = getMaxPoolSize(concurrency);
-            return new ForyMessageConverter(minPoolSize, maxPoolSize, allowedSerializationClasses);
+            List<Integer> poolSize = getPoolSize(poolSizeExpression);
+            ForyMessageConverter foryConverter = new ForyMessageConverter(poolSize.get(0), poolSize.get(1),
+                    allowedSerializationClasses);
+            foryConverter.setMetrics(metrics);
+            defaultConverter = foryConverter;
+            converters.put(ForyMessageConverter.CONTENT_TYPE, defaultConverter);
         }
+        RabbitRpcConverterMapping converterMapping = getConverterMapping();
+        if (converterMapping != null) {
+            converters.putAll(converterMapping);
+        }
+        return new MessageConverterRegistry(defaultConverter, converters);
     }
 
-    private Integer getMinPoolSize(List<Integer> concurrency) {
-        if (concurrency.isEmpty()) {
-            return DEFAULT_MIN_POOL_SIZE;
-        } else {
-            //Rounding to the nearest integer value
-            return (concurrency.get(0) + 1) / 2;
-        }
+    private RabbitRpcConverterMapping getConverterMapping() {
+        return applicationContext.getBeanProvider(RabbitRpcConverterMapping.class).getIfAvailable();
     }
 
-    private Integer getMaxPoolSize(List<Integer> concurrency) {
-        if (concurrency.size() < 2) {
-            return DEFAULT_MAX_POOL_SIZE;
-        } else if (concurrency.get(1) / 2 > DEFAULT_MAX_POOL_SIZE) {
-            //Rounding to the nearest integer value
-            return (concurrency.get(1) + 1) / 2;
-        } else {
-            return DEFAULT_MAX_POOL_SIZE;
+    private List<Integer> getPoolSize(String poolSizeExpression) {
+        return parsePoolSize(expressionResolver.resolveValue(poolSizeExpression));
+    }
+
+    /**
+     * The pool grows with the observed concurrency, so only its bounds are configured:
+     * {@code "max"} or {@code "min-max"}.
+     */
+    static List<Integer> parsePoolSize(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of(DEFAULT_MIN_POOL_SIZE, DEFAULT_MAX_POOL_SIZE);
+        }
+        List<Integer> poolSize = Arrays.stream(value.split("-")).map(Integer::parseInt).toList();
+        if (poolSize.size() == 1) {
+            poolSize = List.of(Math.min(DEFAULT_MIN_POOL_SIZE, poolSize.get(0)), poolSize.get(0));
+        }
+        if (poolSize.size() != 2 || poolSize.get(0) < 0 || poolSize.get(1) < 1 || poolSize.get(1) < poolSize.get(0)) {
+            throw new IllegalStateException("Invalid Fory pool size: " + value);
         }
+        return poolSize;
     }
 }
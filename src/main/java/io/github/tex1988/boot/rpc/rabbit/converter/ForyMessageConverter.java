@@ -1,8 +1,9 @@
 package io.github.tex1988.boot.rpc.rabbit.converter;
 
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import io.github.tex1988.boot.rpc.rabbit.model.LazyArgument;
 import lombok.SneakyThrows;
 import org.apache.fory.Fory;
-import org.apache.fory.ThreadSafeFory;
 import org.apache.fory.config.CompatibleMode;
 import org.apache.fory.config.ForyBuilder;
 import org.apache.fory.config.Language;
@@ -14,24 +15,44 @@ import org.springframework.amqp.support.converter.AbstractMessageConverter;
 import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.lang.NonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ENVELOPE_HEADER;
 
 /**
  * A custom message converter for RabbitMQ that uses Apache Fory (Fury) for serialization and deserialization.
  * This converter supports efficient object serialization and deserialization with optional class registration.
  * Fully thread-safe.
+ * <p>
+ * Signature-aware conversion writes the values positionally into an {@link ArgumentEnvelope},
+ * so only values of a polymorphic declared type carry a class tag. Values whose declared types are all
+ * primitives, their wrappers or {@link String} are written by the fixed-width {@link PrimitiveArgumentCodec}.
+ * Envelope messages are marked with the {@link io.github.tex1988.boot.rpc.rabbit.constant.Constants#ENVELOPE_HEADER}
+ * header holding the envelope format. Values of {@link LazyArgument}s are encoded separately and decoded
+ * only when the receiver accesses them.
+ * </p>
+ * <p>
+ * Fory instances are taken from a {@link ForyPool}, which grows with the number of threads converting
+ * at the same time up to the maximum pool size, and shrinks to the minimum pool size once instances are unused
+ * for the keep-alive of the pool.
+ * </p>
  *
  * @author tex1988
  * @since 2025-05-06
  */
-public class ForyMessageConverter extends AbstractMessageConverter {
+public class ForyMessageConverter extends AbstractMessageConverter implements SignatureAwareMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/fory";
+    public static final String FORY_ENVELOPE = "fory";
+    public static final String PRIMITIVE_ENVELOPE = "primitive";
 
     private static final int FORY_MIN_PULL_SIZE = 10;
     private static final int FORY_MAX_PULL_SIZE = 500;
-    private static final String CONTENT_TYPE = "application/fory";
     private static final String DEFAULT_CHARSET = "UTF-8";
 
-    private final ThreadSafeFory fory;
+    private final ForyPool fory;
 
     static {
         LoggerFactory.useSlf4jLogging(true);
@@ -68,19 +89,48 @@ public class ForyMessageConverter extends AbstractMessageConverter {
                 .withAsyncCompilation(true);
         boolean isRegistrationRequired = allowedListClasses != null && !allowedListClasses.isEmpty();
         builder.requireClassRegistration(isRegistrationRequired);
-        fory = builder.buildThreadSafeForyPool(minPoolSize, maxPoolSize);
+        List<Class<?>> allowedClasses = new ArrayList<>();
         if (isRegistrationRequired) {
             for (String className : allowedListClasses) {
-                Class<?> clazz = Class.forName(className);
-                fory.register(clazz, className);
+                allowedClasses.add(Class.forName(className));
             }
         }
+        fory = new ForyPool(() -> createFory(builder, allowedClasses, this::decodeLazy), minPoolSize, maxPoolSize,
+                ForyPool.DEFAULT_KEEP_ALIVE);
+        // Fail fast on invalid registrations
+        fory.execute(f -> f);
+    }
+
+    /**
+     * Sets the metrics to record the Fory pool size and waits with.
+     *
+     * @param metrics the metrics
+     */
+    public void setMetrics(RabbitRpcMetrics metrics) {
+        fory.setMetrics(metrics);
+    }
+
+    private static Fory createFory(ForyBuilder builder, List<Class<?>> allowedClasses,
+                                   Function<byte[], Object> lazyDecoder) {
+        Fory instance;
+        synchronized (builder) {
+            instance = builder.build();
+        }
+        instance.registerSerializer(ArgumentEnvelope.class, ArgumentEnvelope.EnvelopeSerializer::new);
+        instance.registerSerializer(LazyArgument.class, f -> new LazyArgumentSerializer(f, lazyDecoder));
+        for (Class<?> clazz : allowedClasses) {
+            // Classes with a serializer above are registered already
+            if (clazz != ArgumentEnvelope.class && clazz != LazyArgument.class) {
+                instance.register(clazz, clazz.getName());
+            }
+        }
+        return instance;
     }
 
     @Override
     protected @NonNull Message createMessage(@NonNull Object object, @NonNull MessageProperties messageProperties) {
         try {
-            byte[] bytes = fory.serialize(object);
+            byte[] bytes = fory.execute(f -> f.serialize(object));
             messageProperties.setContentType(CONTENT_TYPE);
 
             if (messageProperties.getContentEncoding() == null) {
@@ -92,17 +142,83 @@ public class ForyMessageConverter extends AbstractMessageConverter {
         }
     }
 
+    @Override
+    public Message toMessage(Object[] values, Class<?>[] types, MessageProperties messageProperties) {
+        try {
+            byte[] bytes;
+            if (PrimitiveArgumentCodec.supports(types)) {
+                bytes = PrimitiveArgumentCodec.write(values, types);
+                messageProperties.setHeader(ENVELOPE_HEADER, PRIMITIVE_ENVELOPE);
+            } else {
+                Object[] encodedValues = encodeLazy(values);
+                bytes = fory.execute(f -> ArgumentEnvelope.write(f, encodedValues, types));
+                messageProperties.setHeader(ENVELOPE_HEADER, FORY_ENVELOPE);
+            }
+            messageProperties.setContentType(CONTENT_TYPE);
+
+            if (messageProperties.getContentEncoding() == null) {
+                messageProperties.setContentEncoding(DEFAULT_CHARSET);
+            }
+            return new Message(bytes, messageProperties);
+        } catch (Exception e) {
+            throw new MessageConversionException("Failed to convert values to message", e);
+        }
+    }
+
+    @Override
+    public Object[] fromMessage(Message message, Class<?>[] types) {
+        MessageProperties properties = message.getMessageProperties();
+        String envelope = properties != null ? properties.getHeader(ENVELOPE_HEADER) : null;
+        if (envelope == null) {
+            return (Object[]) fromMessage(message);
+        }
+        try {
+            validateProperties(properties);
+            if (PRIMITIVE_ENVELOPE.equals(envelope)) {
+                return PrimitiveArgumentCodec.read(message.getBody(), types);
+            }
+            return fory.execute(f -> ArgumentEnvelope.read(f, message.getBody(), types));
+        } catch (Exception e) {
+            throw new MessageConversionException("Failed to convert message", e);
+        }
+    }
+
     @Override
     public @NonNull Object fromMessage(@NonNull Message message) throws MessageConversionException {
         try {
             MessageProperties properties = message.getMessageProperties();
             validateProperties(properties);
-            return fory.deserialize(message.getBody());
+            return fory.execute(f -> f.deserialize(message.getBody()));
         } catch (Exception e) {
             throw new MessageConversionException("Failed to convert message", e);
         }
     }
 
+    /**
+     * Encodes the values of lazy arguments in their own sessions, as sessions cannot be nested.
+     */
+    private Object[] encodeLazy(Object[] values) {
+        Object[] encodedValues = values;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof LazyArgument<?> lazy && lazy.isDecoded()) {
+                if (encodedValues == values) {
+                    encodedValues = values.clone();
+                }
+                Object value = lazy.get();
+                encodedValues[i] = LazyArgument.ofEncoded(fory.execute(f -> f.serialize(value)), this::decodeLazy);
+            }
+        }
+        return encodedValues;
+    }
+
+    private Object decodeLazy(byte[] bytes) {
+        try {
+            return fory.execute(f -> f.deserialize(bytes));
+        } catch (Exception e) {
+            throw new MessageConversionException("Failed to convert lazy argument", e);
+        }
+    }
+
     private void validateProperties(MessageProperties properties) {
         if (properties == null || properties.getContentType() == null) {
             throw new IllegalArgumentException("Invalid message properties: " + properties);
@@ -0,0 +1,199 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import org.apache.fory.Fory;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link Fory} instances that grows with the observed serialization concurrency and shrinks when idle.
+ * <p>
+ * A caller takes an idle instance, or creates one if all instances are in use, so the pool follows the number of
+ * threads serializing at the same time, whether they are listener consumers or client callers. Only when the
+ * maximum size is reached do callers wait, and the wait is recorded by
+ * {@link RabbitRpcMetrics#recordForyPoolWait(long)}. Instances are reused most-recently-used first, so
+ * surplus instances sink to the end of the idle queue.
+ * </p>
+ * <p>
+ * Every keep-alive period, a shared daemon thread discards the instances unused for longer than the keep-alive,
+ * down to the minimum size, so a quiet pool shrinks as well. The size is only decremented by a compare-and-set
+ * above the minimum, so concurrent evictions never shrink the pool below it. The evictor holds the pool weakly
+ * and stops once the pool is garbage collected.
+ * </p>
+ * <p>
+ * The pool holds instances, not threads, so it stays bounded with any number of (virtual) threads.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class ForyPool {
+
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rabbit-rpc-fory-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<Fory> factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long keepAliveNanos;
+    private final BlockingDeque<PooledFory> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile RabbitRpcMetrics metrics = RabbitRpcMetrics.NOOP;
+
+    /**
+     * @param factory   creates a fully configured instance
+     * @param minSize   the number of instances kept when idle
+     * @param maxSize   the maximum number of instances
+     * @param keepAlive the time after which an unused instance above the minimum size is discarded
+     */
+    public ForyPool(Supplier<Fory> factory, int minSize, int maxSize, Duration keepAlive) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid Fory pool size: " + minSize + "-" + maxSize);
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.keepAliveNanos = keepAlive.toNanos();
+        if (minSize < maxSize) {
+            scheduleEviction(new WeakReference<>(this), keepAliveNanos);
+        }
+    }
+
+    /**
+     * Sets the metrics to record waits and the pool size with.
+     *
+     * @param metrics the metrics
+     */
+    public void setMetrics(RabbitRpcMetrics metrics) {
+        this.metrics = metrics;
+        metrics.registerForyPool(this::getSize, this::getIdleSize);
+    }
+
+    /**
+     * Runs an action with an instance of the pool. The instance must not escape the action.
+     *
+     * @param action the action
+     * @param <R>    the result type
+     * @return the result of the action
+     */
+    public <R> R execute(Function<Fory, R> action) {
+        PooledFory pooled = acquire();
+        try {
+            return action.apply(pooled.fory);
+        } finally {
+            release(pooled);
+        }
+    }
+
+    /**
+     * Returns the number of instances, in use or idle.
+     *
+     * @return the pool size
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of idle instances.
+     *
+     * @return the idle size
+     */
+    public int getIdleSize() {
+        return idle.size();
+    }
+
+    private PooledFory acquire() {
+        PooledFory pooled = idle.pollFirst();
+        if (pooled != null) {
+            return pooled;
+        }
+        int current;
+        while ((current = size.get()) < maxSize) {
+            if (size.compareAndSet(current, current + 1)) {
+                try {
+                    return new PooledFory(factory.get());
+                } catch (RuntimeException e) {
+                    size.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            pooled = idle.takeFirst();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a Fory instance", e);
+        }
+        metrics.recordForyPoolWait(System.nanoTime() - start);
+        return pooled;
+    }
+
+    private void release(PooledFory pooled) {
+        pooled.lastUsed = System.nanoTime();
+        idle.offerFirst(pooled);
+    }
+
+    /**
+     * Discards the instances unused for longer than the keep-alive, down to the minimum size.
+     */
+    void evictIdle() {
+        long now = System.nanoTime();
+        PooledFory eldest;
+        while ((eldest = idle.peekLast()) != null && now - eldest.lastUsed > keepAliveNanos) {
+            if (!idle.removeLastOccurrence(eldest)) {
+                // Taken by a caller in the meantime
+                continue;
+            }
+            if (!shrink()) {
+                idle.offerLast(eldest);
+                return;
+            }
+        }
+    }
+
+    private boolean shrink() {
+        int current;
+        while ((current = size.get()) > minSize) {
+            if (size.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void scheduleEviction(WeakReference<ForyPool> reference, long periodNanos) {
+        EVICTOR.schedule(() -> {
+            ForyPool pool = reference.get();
+            if (pool != null) {
+                pool.evictIdle();
+                scheduleEviction(reference, periodNanos);
+            }
+        }, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class PooledFory {
+
+        private final Fory fory;
+        private volatile long lastUsed;
+
+        private PooledFory(Fory fory) {
+            this.fory = fory;
+        }
+    }
+}
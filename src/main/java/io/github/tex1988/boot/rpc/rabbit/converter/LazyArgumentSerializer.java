@@ -0,0 +1,56 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import io.github.tex1988.boot.rpc.rabbit.model.LazyArgument;
+import org.apache.fory.Fory;
+import org.apache.fory.memory.MemoryBuffer;
+import org.apache.fory.serializer.Serializer;
+
+import java.util.function.Function;
+
+/**
+ * Writes a {@link LazyArgument} as its separately encoded value, so the reader can skip it.
+ * <p>
+ * A Fory session cannot be nested, so {@link ForyMessageConverter} encodes the values of lazy arguments before
+ * writing the envelope. An argument that was not encoded upfront is written inline and read eagerly.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@SuppressWarnings("rawtypes")
+final class LazyArgumentSerializer extends Serializer<LazyArgument> {
+
+    private static final byte INLINE_VALUE = 0;
+    private static final byte ENCODED_VALUE = 1;
+
+    private final Function<byte[], Object> decoder;
+
+    LazyArgumentSerializer(Fory fory, Function<byte[], Object> decoder) {
+        super(fory, LazyArgument.class);
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void write(MemoryBuffer buffer, LazyArgument argument) {
+        byte[] encoded = argument.getEncoded();
+        if (encoded != null) {
+            buffer.writeByte(ENCODED_VALUE);
+            buffer.writeVarUint32(encoded.length);
+            buffer.writeBytes(encoded);
+        } else {
+            buffer.writeByte(INLINE_VALUE);
+            fory.writeRef(buffer, argument.get());
+        }
+    }
+
+    @Override
+    public LazyArgument read(MemoryBuffer buffer) {
+        byte kind = buffer.readByte();
+        if (kind == ENCODED_VALUE) {
+            return LazyArgument.ofEncoded(buffer.readBytes(buffer.readVarUint32()), decoder);
+        } else if (kind == INLINE_VALUE) {
+            return LazyArgument.of(fory.readRef(buffer));
+        }
+        throw new IllegalArgumentException("Invalid lazy argument kind: " + kind);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.lang.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link MessageConverter} that selects a codec by the {@code contentType} of a message.
+ * <p>
+ * Outgoing messages are converted by the codec registered for {@link MessageProperties#getContentType()},
+ * incoming messages by the codec registered for the content type of the received message.
+ * Messages with an unknown or default content type are handled by the default converter.
+ * Selecting a codec costs a single map lookup per message.
+ * </p>
+ * <p>
+ * Signature-aware conversion is delegated to codecs implementing {@link SignatureAwareMessageConverter},
+ * other codecs convert the values as a plain {@code Object[]}.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class MessageConverterRegistry implements SignatureAwareMessageConverter {
+
+    private final MessageConverter defaultConverter;
+    private final Map<String, MessageConverter> converters;
+
+    public MessageConverterRegistry(MessageConverter defaultConverter, Map<String, MessageConverter> converters) {
+        this.defaultConverter = defaultConverter;
+        this.converters = new HashMap<>(converters);
+    }
+
+    /**
+     * Returns the codec registered for the given content type.
+     *
+     * @param contentType the content type of a message, may be {@code null}
+     * @return the registered codec, or the default converter if none is registered
+     */
+    public MessageConverter getConverter(String contentType) {
+        if (contentType == null) {
+            return defaultConverter;
+        }
+        MessageConverter converter = converters.get(contentType);
+        return converter != null ? converter : defaultConverter;
+    }
+
+    /**
+     * Checks whether a codec is registered for the given content type.
+     * <p>
+     * Messages without a content type, or with the AMQP default one, are always supported. If the default
+     * converter is not registered for a content type, it is assumed to handle any content type.
+     * </p>
+     *
+     * @param contentType the content type of a message, may be {@code null}
+     * @return {@code true} if messages of this content type can be converted
+     */
+    public boolean supports(String contentType) {
+        return contentType == null || MessageProperties.DEFAULT_CONTENT_TYPE.equals(contentType)
+                || converters.containsKey(contentType) || !converters.containsValue(defaultConverter);
+    }
+
+    @Override
+    public @NonNull Message toMessage(@NonNull Object object, @NonNull MessageProperties messageProperties)
+            throws MessageConversionException {
+        return getConverter(messageProperties.getContentType()).toMessage(object, messageProperties);
+    }
+
+    @Override
+    public @NonNull Object fromMessage(@NonNull Message message) throws MessageConversionException {
+        return getConverter(message.getMessageProperties().getContentType()).fromMessage(message);
+    }
+
+    @Override
+    public boolean isSignatureAware(String contentType) {
+        return getConverter(contentType) instanceof SignatureAwareMessageConverter signatureAwareConverter
+                && signatureAwareConverter.isSignatureAware(contentType);
+    }
+
+    @Override
+    public Message toMessage(Object[] values, Class<?>[] types, MessageProperties messageProperties)
+            throws MessageConversionException {
+        MessageConverter converter = getConverter(messageProperties.getContentType());
+        if (converter instanceof SignatureAwareMessageConverter signatureAwareConverter) {
+            return signatureAwareConverter.toMessage(values, types, messageProperties);
+        }
+        return converter.toMessage(values, messageProperties);
+    }
+
+    @Override
+    public Object[] fromMessage(Message message, Class<?>[] types) throws MessageConversionException {
+        MessageConverter converter = getConverter(message.getMessageProperties().getContentType());
+        if (converter instanceof SignatureAwareMessageConverter signatureAwareConverter) {
+            return signatureAwareConverter.fromMessage(message, types);
+        }
+        return (Object[]) converter.fromMessage(message);
+    }
+}
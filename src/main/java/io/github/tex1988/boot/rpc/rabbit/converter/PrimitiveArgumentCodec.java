@@ -0,0 +1,235 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * A fixed-width codec for values whose declared types are all primitives, their wrappers or {@link String}.
+ * <p>
+ * Values are written positionally without any type information: primitives take their natural width,
+ * wrappers and strings are prefixed by a presence byte, strings are written as a length-prefixed UTF-8 sequence.
+ * The exact message size is computed up front, so encoding allocates the message body only and
+ * decoding reads it in place. Calls like {@code getById(Long id)} skip the Fory object graph machinery entirely.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PrimitiveArgumentCodec {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte PRESENT_VALUE = 1;
+
+    private static final Map<Class<?>, ValueType> VALUE_TYPES = Map.ofEntries(
+            Map.entry(boolean.class, ValueType.BOOLEAN), Map.entry(Boolean.class, ValueType.BOOLEAN),
+            Map.entry(byte.class, ValueType.BYTE), Map.entry(Byte.class, ValueType.BYTE),
+            Map.entry(char.class, ValueType.CHAR), Map.entry(Character.class, ValueType.CHAR),
+            Map.entry(short.class, ValueType.SHORT), Map.entry(Short.class, ValueType.SHORT),
+            Map.entry(int.class, ValueType.INT), Map.entry(Integer.class, ValueType.INT),
+            Map.entry(long.class, ValueType.LONG), Map.entry(Long.class, ValueType.LONG),
+            Map.entry(float.class, ValueType.FLOAT), Map.entry(Float.class, ValueType.FLOAT),
+            Map.entry(double.class, ValueType.DOUBLE), Map.entry(Double.class, ValueType.DOUBLE),
+            Map.entry(String.class, ValueType.STRING));
+
+    /**
+     * Checks whether all declared types are supported by this codec.
+     *
+     * @param types the declared types
+     * @return {@code true} if the values can be written by this codec
+     */
+    static boolean supports(Class<?>[] types) {
+        for (Class<?> type : types) {
+            if (!VALUE_TYPES.containsKey(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] write(Object[] values, Class<?>[] types) {
+        if (values.length != types.length) {
+            throw new IllegalArgumentException("Expected " + types.length + " values, got " + values.length);
+        }
+        int size = 0;
+        byte[][] strings = null;
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (!types[i].isPrimitive()) {
+                size++;
+            } else if (value == null) {
+                throw new IllegalArgumentException("Null value for primitive type " + types[i].getName());
+            }
+            if (value == null) {
+                continue;
+            }
+            ValueType valueType = VALUE_TYPES.get(types[i]);
+            if (valueType == ValueType.STRING) {
+                if (strings == null) {
+                    strings = new byte[values.length][];
+                }
+                strings[i] = ((String) value).getBytes(StandardCharsets.UTF_8);
+                size += Integer.BYTES + strings[i].length;
+            } else {
+                size += valueType.width;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[size]);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (!types[i].isPrimitive()) {
+                buffer.put(value == null ? NULL_VALUE : PRESENT_VALUE);
+            }
+            if (value == null) {
+                continue;
+            }
+            ValueType valueType = VALUE_TYPES.get(types[i]);
+            if (valueType == ValueType.STRING) {
+                buffer.putInt(strings[i].length).put(strings[i]);
+            } else {
+                valueType.write(buffer, value);
+            }
+        }
+        return buffer.array();
+    }
+
+    static Object[] read(byte[] bytes, Class<?>[] types) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Object[] values = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            ValueType valueType = VALUE_TYPES.get(types[i]);
+            if (valueType == null) {
+                throw new IllegalArgumentException("Unsupported type: " + types[i].getName());
+            }
+            if (!types[i].isPrimitive() && buffer.get() == NULL_VALUE) {
+                continue;
+            }
+            values[i] = valueType.read(buffer);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected " + buffer.remaining() + " trailing bytes");
+        }
+        return values;
+    }
+
+    private enum ValueType {
+        BOOLEAN(1) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.put((byte) ((Boolean) value ? 1 : 0));
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.get() != 0;
+            }
+        },
+        BYTE(Byte.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.put((Byte) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.get();
+            }
+        },
+        CHAR(Character.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putChar((Character) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getChar();
+            }
+        },
+        SHORT(Short.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putShort((Short) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getShort();
+            }
+        },
+        INT(Integer.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putInt((Integer) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        },
+        LONG(Long.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putLong((Long) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        },
+        FLOAT(Float.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putFloat((Float) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getFloat();
+            }
+        },
+        DOUBLE(Double.BYTES) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                buffer.putDouble((Double) value);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        },
+        STRING(-1) {
+            @Override
+            void write(ByteBuffer buffer, Object value) {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length).put(bytes);
+            }
+
+            @Override
+            Object read(ByteBuffer buffer) {
+                int length = buffer.getInt();
+                String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+        };
+
+        private final int width;
+
+        ValueType(int width) {
+            this.width = width;
+        }
+
+        abstract void write(ByteBuffer buffer, Object value);
+
+        abstract Object read(ByteBuffer buffer);
+    }
+}
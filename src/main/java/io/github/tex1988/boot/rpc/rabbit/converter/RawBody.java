@@ -0,0 +1,108 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.nio.ByteBuffer;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ACCEPT_RAW_BODY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RAW_BODY_HEADER;
+
+/**
+ * Sends a single {@code byte[]} or {@link ByteBuffer} value as the message body itself.
+ * <p>
+ * Messages are marked with the {@value RAW_BODY_HEADER} header and bypass the message converter:
+ * a {@code byte[]} becomes the body as is, and the received body is handed to the method or the caller
+ * without a copy, wrapped if a {@link ByteBuffer} is declared. A {@link ByteBuffer} is only copied
+ * if it does not cover exactly its whole backing array. {@code null} values are not sent raw.
+ * </p>
+ * <p>
+ * Return values are only replied raw to clients which sent a raw request or the
+ * {@value ACCEPT_RAW_BODY_HEADER} header, other clients decode the reply with the message converter.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RawBody {
+
+    /**
+     * Checks whether values of a declared type can be sent as a raw body.
+     *
+     * @param type the declared type
+     * @return {@code true} for {@code byte[]} and {@link ByteBuffer}
+     */
+    public static boolean supports(Class<?> type) {
+        return type == byte[].class || type == ByteBuffer.class;
+    }
+
+    /**
+     * Checks whether the arguments of a method can be sent as a raw body.
+     *
+     * @param types the declared parameter types
+     * @return {@code true} if the only parameter is a {@code byte[]} or a {@link ByteBuffer}
+     */
+    public static boolean supports(Class<?>[] types) {
+        return types.length == 1 && supports(types[0]);
+    }
+
+    /**
+     * Checks whether a message carries a raw body.
+     *
+     * @param message the message
+     * @return {@code true} if the message is marked with the {@value RAW_BODY_HEADER} header
+     */
+    public static boolean isRaw(Message message) {
+        return message.getMessageProperties().getHeader(RAW_BODY_HEADER) != null;
+    }
+
+    /**
+     * Checks whether the sender of a request can decode a raw reply.
+     *
+     * @param request the properties of the request
+     * @return {@code true} if the request carried a raw body or the {@value ACCEPT_RAW_BODY_HEADER} header
+     */
+    public static boolean isAccepted(MessageProperties request) {
+        return request.getHeader(RAW_BODY_HEADER) != null || request.getHeader(ACCEPT_RAW_BODY_HEADER) != null;
+    }
+
+    /**
+     * Creates a message with the value as its body.
+     *
+     * @param value      a {@code byte[]} or a {@link ByteBuffer}
+     * @param properties the message properties
+     * @return the message
+     */
+    public static Message toMessage(Object value, MessageProperties properties) {
+        properties.setHeader(RAW_BODY_HEADER, true);
+        return new Message(toBytes(value), properties);
+    }
+
+    /**
+     * Returns the body of a raw message as a value of the declared type.
+     *
+     * @param message the message
+     * @param type    {@code byte[]} or {@link ByteBuffer}
+     * @return the body, not copied
+     */
+    public static Object fromMessage(Message message, Class<?> type) {
+        return type == ByteBuffer.class ? ByteBuffer.wrap(message.getBody()) : message.getBody();
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        ByteBuffer buffer = (ByteBuffer) value;
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
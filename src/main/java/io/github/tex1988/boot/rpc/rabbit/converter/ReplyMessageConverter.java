@@ -0,0 +1,37 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.lang.NonNull;
+
+/**
+ * A {@link MessageConverter} for Rabbit RPC listener containers that only converts replies.
+ * <p>
+ * Incoming requests are passed to the handler as the raw {@link Message}, so the handler decodes the
+ * payload exactly once using the signature of the invoked method. Replies are converted by the delegate.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class ReplyMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+
+    public ReplyMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public @NonNull Message toMessage(@NonNull Object object, @NonNull MessageProperties messageProperties)
+            throws MessageConversionException {
+        return delegate.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public @NonNull Object fromMessage(@NonNull Message message) throws MessageConversionException {
+        return message;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * A {@link MessageConverter} that can use the declared types of a method signature
+ * to serialize and deserialize the values of an RPC call.
+ * <p>
+ * Both the client and the server know the signature of the invoked method, so values whose
+ * runtime type equals the declared type can be written without type information and read
+ * straight into typed slots. Only values of a polymorphic declared type carry a type tag.
+ * </p>
+ * <p>
+ * Messages created by {@link #toMessage(Object[], Class[], MessageProperties)} are marked with the
+ * {@link io.github.tex1988.boot.rpc.rabbit.constant.Constants#ENVELOPE_HEADER} header. Requests carry the
+ * method arguments, replies carry the return value as a single value of the declared return type.
+ * Replies are only written as envelopes to requests which were envelopes themselves.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public interface SignatureAwareMessageConverter extends MessageConverter {
+
+    /**
+     * Converts values to a message using their declared types.
+     *
+     * @param values            the values to convert, e.g. method arguments
+     * @param types             the declared types of the values
+     * @param messageProperties the message properties
+     * @return the message
+     * @throws MessageConversionException if the values cannot be converted
+     */
+    Message toMessage(Object[] values, Class<?>[] types, MessageProperties messageProperties)
+            throws MessageConversionException;
+
+    /**
+     * Converts a message to values of the declared types.
+     * <p>
+     * Messages created by {@link #toMessage(Object, MessageProperties)} must be accepted as well,
+     * so that callers without signature support can still be served.
+     * </p>
+     *
+     * @param message the message
+     * @param types   the declared types of the values
+     * @return the values
+     * @throws MessageConversionException if the message cannot be converted
+     */
+    Object[] fromMessage(Message message, Class<?>[] types) throws MessageConversionException;
+
+    /**
+     * Checks whether messages of the given content type are converted using declared types.
+     *
+     * @param contentType the content type of a message, may be {@code null}
+     * @return {@code true} if {@link #toMessage(Object[], Class[], MessageProperties)} creates envelope messages
+     */
+    default boolean isSignatureAware(String contentType) {
+        return true;
+    }
+}
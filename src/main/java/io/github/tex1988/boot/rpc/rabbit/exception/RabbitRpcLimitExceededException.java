@@ -0,0 +1,34 @@
+package io.github.tex1988.boot.rpc.rabbit.exception;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+
+/**
+ * Thrown by a client whose adaptive concurrency limit of a service is reached, without sending the request.
+ * <p>
+ * The exception carries the {@link ErrorStatusCode#SERVICE_UNAVAILABLE} status and no stack trace,
+ * as it is thrown at a high rate exactly when the caller is overloaded.
+ * </p>
+ *
+ * @author tex1988
+ * @see RabbitRpcServiceException
+ * @since 2026-10-18
+ */
+public class RabbitRpcLimitExceededException extends RabbitRpcServiceException {
+
+    /**
+     * Constructs a new RabbitRpcLimitExceededException.
+     *
+     * @param timestamp   the timestamp when the exception occurred
+     * @param serviceName the name of the service whose limit is reached
+     * @param limit       the current concurrency limit of the service
+     */
+    public RabbitRpcLimitExceededException(Long timestamp, String serviceName, int limit) {
+        super(timestamp, serviceName, ErrorStatusCode.SERVICE_UNAVAILABLE.getCode(),
+                "Concurrency limit " + limit + " of " + serviceName + " reached");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
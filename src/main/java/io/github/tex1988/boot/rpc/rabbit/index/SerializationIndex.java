@@ -0,0 +1,119 @@
+package io.github.tex1988.boot.rpc.rabbit.index;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.SpringProperties;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_IGNORE_PROPERTY;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_LOCATION;
+
+/**
+ * Runtime view of the build-time serialization indexes generated by {@link SerializationIndexProcessor}.
+ * <p>
+ * All index resources visible to the class loader are merged. A package pattern is resolved from the index
+ * only when every classpath root containing the package has an index; a package that is also present in a
+ * root compiled without the processor (e.g. split across an indexed and a non-indexed jar) is scanned,
+ * so its non-indexed classes are not silently left out.
+ * </p>
+ *
+ * <p>Set the {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#SERIALIZATION_INDEX_IGNORE_PROPERTY}
+ * system or Spring property to {@code true} to ignore the index and always scan.</p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public class SerializationIndex {
+
+    private final ClassLoader classLoader;
+    private final Set<String> classNames;
+    private final Set<String> roots;
+
+    private SerializationIndex(ClassLoader classLoader, Set<String> classNames, Set<String> roots) {
+        this.classLoader = classLoader;
+        this.classNames = classNames;
+        this.roots = roots;
+    }
+
+    /**
+     * Loads and merges all serialization indexes visible to the given class loader.
+     *
+     * @param classLoader the class loader to load the index resources from
+     * @return the merged index, or {@code null} if no index is present or the index is ignored
+     */
+    @SneakyThrows
+    public static SerializationIndex load(ClassLoader classLoader) {
+        if (SpringProperties.getFlag(SERIALIZATION_INDEX_IGNORE_PROPERTY)) {
+            return null;
+        }
+        Set<String> classNames = new TreeSet<>();
+        Set<String> roots = new HashSet<>();
+        Enumeration<URL> resources = classLoader.getResources(SERIALIZATION_INDEX_LOCATION);
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            roots.add(getRoot(url, SERIALIZATION_INDEX_LOCATION));
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        classNames.add(line);
+                    }
+                }
+            }
+        }
+        return classNames.isEmpty() ? null : new SerializationIndex(classLoader, classNames, roots);
+    }
+
+    /**
+     * Checks that every classpath root containing a package has an index, so the index lists all its classes.
+     *
+     * @param basePackage the package name without a trailing {@code .*}
+     * @return {@code true} if the package can be resolved from the index
+     */
+    @SneakyThrows
+    public boolean isIndexed(String basePackage) {
+        String path = basePackage.replace('.', '/');
+        Enumeration<URL> packageUrls = classLoader.getResources(path);
+        while (packageUrls.hasMoreElements()) {
+            String root = getRoot(packageUrls.nextElement(), path);
+            if (!roots.contains(root)) {
+                log.debug("Package {} is also present in non-indexed {}, scanning the classpath", basePackage, root);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getRoot(URL url, String path) {
+        String location = url.toString();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+    }
+
+    /**
+     * Returns the indexed classes of a package, including its subpackages.
+     *
+     * @param basePackage the package name without a trailing {@code .*}
+     * @return the binary class names, or an empty list if the package is not indexed
+     */
+    public List<String> getClassNames(String basePackage) {
+        String prefix = basePackage + ".";
+        return classNames.stream()
+                .filter(name -> name.startsWith(prefix))
+                .toList();
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.tex1988.boot.rpc.rabbit.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_LOCATION;
+
+/**
+ * Annotation processor that writes a build-time index of the classes compiled in a module.
+ * <p>
+ * The index is written to {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#SERIALIZATION_INDEX_LOCATION}
+ * and contains the binary names of all classes, enums and records (including nested ones) of the compilation.
+ * At runtime {@link SerializationIndex} uses it to resolve package patterns of
+ * {@code allowedSerializationPatterns} without scanning the classpath.
+ * </p>
+ *
+ * <p>The processor is discovered automatically when the starter is on the compile classpath.
+ * If the build declares {@code annotationProcessorPaths} explicitly, the starter must be added there as well.
+ * Entries of a previous index are kept while their classes are still resolvable, so incremental
+ * compilation of a subset of sources does not truncate the index.</p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@SupportedAnnotationTypes("*")
+public class SerializationIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Elements elements = processingEnv.getElementUtils();
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element, elements);
+        }
+        if (roundEnv.processingOver()) {
+            readPreviousIndex(elements);
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void collect(Element element, Elements elements) {
+        if (element instanceof TypeElement typeElement) {
+            ElementKind kind = typeElement.getKind();
+            if (kind == ElementKind.CLASS || kind == ElementKind.ENUM || kind == ElementKind.RECORD) {
+                classNames.add(elements.getBinaryName(typeElement).toString());
+            }
+            for (Element enclosed : typeElement.getEnclosedElements()) {
+                collect(enclosed, elements);
+            }
+        }
+    }
+
+    private void readPreviousIndex(Elements elements) {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERIALIZATION_INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")
+                            && elements.getTypeElement(line.replace('$', '.')) != null) {
+                        classNames.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No previous index, nothing to merge
+        }
+    }
+
+    private void writeIndex() {
+        if (classNames.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERIALIZATION_INDEX_LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + ", do not edit\n");
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write Rabbit RPC serialization index: " + e.getMessage());
+        }
+    }
+}
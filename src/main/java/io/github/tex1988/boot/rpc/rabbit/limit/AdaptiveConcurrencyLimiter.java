@@ -0,0 +1,124 @@
+package io.github.tex1988.boot.rpc.rabbit.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the concurrent calls of a client to a service, adapting the limit to the observed round trip time
+ * in the manner of TCP Vegas.
+ * <p>
+ * The shortest round trip time is taken as the time of an unloaded service. The growth of a sample over it
+ * estimates the calls queued at the service: the limit grows while few calls are queued and the limit is
+ * used, shrinks while many are queued, and is cut multiplicatively when a call times out or is shed. The
+ * unloaded time is re-probed periodically, so the limit follows a service whose latency changes.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int PROBE_MULTIPLIER = 30;
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Guarded by this
+    private long rttNoLoad;
+    private long samplesUntilProbe;
+
+    /**
+     * @param minLimit the lower bound of the limit
+     * @param maxLimit the upper bound of the limit
+     */
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, INITIAL_LIMIT));
+        this.samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+    }
+
+    /**
+     * Takes a slot for a call if the limit allows.
+     *
+     * @return {@code true} if the call may proceed and must be {@linkplain #release(long, boolean) released}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the slot of a finished call and adapts the limit to its outcome.
+     *
+     * @param rttNanos the round trip time of the call, in nanoseconds
+     * @param dropped  whether the call timed out or was shed by the service
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, current, dropped);
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of calls in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of calls rejected so far
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void update(long rtt, int inFlightAtRelease, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, (int) (limit * DECREASE_FACTOR));
+            return;
+        }
+        if (--samplesUntilProbe <= 0) {
+            // Forget the unloaded time, it is found again among the next samples
+            rttNoLoad = rtt;
+            samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+            return;
+        }
+        if (rttNoLoad == 0 || rtt < rttNoLoad) {
+            rttNoLoad = rtt;
+            return;
+        }
+        int queued = (int) Math.ceil(limit * (1 - (double) rttNoLoad / rtt));
+        int step = (int) Math.max(1, Math.log10(limit));
+        if (queued <= ALPHA * step) {
+            // A limit the caller does not use gives no evidence that it is too low
+            if (inFlightAtRelease * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + step);
+            }
+        } else if (queued >= BETA * step) {
+            limit = Math.max(minLimit, limit - step);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.tex1988.boot.rpc.rabbit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
+
+@AllArgsConstructor
+public class MetricsFactory {
+
+    private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+    private final ApplicationContext applicationContext;
+
+    public RabbitRpcMetrics getMetrics() {
+        RabbitRpcMetrics metrics = applicationContext.getBeanProvider(RabbitRpcMetrics.class).getIfAvailable();
+        if (metrics != null) {
+            return metrics;
+        }
+        if (ClassUtils.isPresent(METER_REGISTRY_CLASS, applicationContext.getClassLoader())) {
+            return MicrometerMetrics.getMetrics(applicationContext);
+        }
+        return RabbitRpcMetrics.NOOP;
+    }
+
+    /**
+     * Isolates Micrometer types, so they are only loaded when Micrometer is on the classpath.
+     */
+    private static class MicrometerMetrics {
+
+        private static RabbitRpcMetrics getMetrics(ApplicationContext applicationContext) {
+            MeterRegistry registry = applicationContext.getBeanProvider(MeterRegistry.class).getIfAvailable();
+            return registry != null ? new MicrometerRabbitRpcMetrics(registry) : RabbitRpcMetrics.NOOP;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.tex1988.boot.rpc.rabbit.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link RabbitRpcMetrics} backed by a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Meters:
+ * <ul>
+ *     <li>{@code rabbit.rpc.compression} timer, tagged by {@code encoding} and {@code operation}
+ *     ({@code compress} or {@code decompress}).</li>
+ *     <li>{@code rabbit.rpc.compression.ratio} summary of original to compressed size, tagged by {@code encoding}.</li>
+ *     <li>{@code rabbit.rpc.fory.pool.size} and {@code rabbit.rpc.fory.pool.idle} gauges of the Fory instance pool.</li>
+ *     <li>{@code rabbit.rpc.fory.pool.wait} timer of callers waiting for a Fory instance.</li>
+ *     <li>{@code rabbit.rpc.queue.wait} timer with a percentile histogram of the time requests waited in
+ *     the queue.</li>
+ *     <li>{@code rabbit.rpc.rejected} counter of requests rejected before decoding, tagged by {@code reason}.</li>
+ *     <li>{@code rabbit.rpc.autoscale.consumers} and {@code rabbit.rpc.autoscale.prefetch} gauges of autoscaled
+ *     queues, tagged by {@code queue}.</li>
+ *     <li>{@code rabbit.rpc.autoscale.decisions} counter of autoscaler decisions, tagged by {@code queue}
+ *     and {@code action}.</li>
+ *     <li>{@code rabbit.rpc.client.limit} and {@code rabbit.rpc.client.inflight} gauges and
+ *     {@code rabbit.rpc.client.limited} counter of adaptive client concurrency limits, tagged by {@code service}.</li>
+ *     <li>{@code rabbit.rpc.retries} counter of failed requests retried, parked or expired before a retry,
+ *     tagged by {@code queue} and {@code outcome}.</li>
+ * </ul>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+public class MicrometerRabbitRpcMetrics implements RabbitRpcMetrics {
+
+    private static final String COMPRESSION_TIMER = "rabbit.rpc.compression";
+    private static final String COMPRESSION_RATIO = "rabbit.rpc.compression.ratio";
+    private static final String FORY_POOL_SIZE = "rabbit.rpc.fory.pool.size";
+    private static final String FORY_POOL_IDLE = "rabbit.rpc.fory.pool.idle";
+    private static final String FORY_POOL_WAIT = "rabbit.rpc.fory.pool.wait";
+    private static final String QUEUE_WAIT = "rabbit.rpc.queue.wait";
+    private static final String REJECTED = "rabbit.rpc.rejected";
+    private static final String AUTOSCALE_CONSUMERS = "rabbit.rpc.autoscale.consumers";
+    private static final String AUTOSCALE_PREFETCH = "rabbit.rpc.autoscale.prefetch";
+    private static final String AUTOSCALE_DECISIONS = "rabbit.rpc.autoscale.decisions";
+    private static final String RETRIES = "rabbit.rpc.retries";
+    private static final String CLIENT_LIMIT = "rabbit.rpc.client.limit";
+    private static final String CLIENT_IN_FLIGHT = "rabbit.rpc.client.inflight";
+    private static final String CLIENT_LIMITED = "rabbit.rpc.client.limited";
+
+    private final MeterRegistry registry;
+
+    @Override
+    public void recordCompression(String encoding, int originalSize, int compressedSize, long nanos) {
+        compressionTimer(encoding, "compress").record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(COMPRESSION_RATIO)
+                .description("Ratio of original to compressed message body size")
+                .tag("encoding", encoding)
+                .register(registry)
+                .record(compressedSize == 0 ? 0 : (double) originalSize / compressedSize);
+    }
+
+    @Override
+    public void recordDecompression(String encoding, int compressedSize, int originalSize, long nanos) {
+        compressionTimer(encoding, "decompress").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void registerForyPool(IntSupplier size, IntSupplier idleSize) {
+        Gauge.builder(FORY_POOL_SIZE, size::getAsInt)
+                .description("Number of Fory instances, in use or idle")
+                .register(registry);
+        Gauge.builder(FORY_POOL_IDLE, idleSize::getAsInt)
+                .description("Number of idle Fory instances")
+                .register(registry);
+    }
+
+    @Override
+    public void recordForyPoolWait(long nanos) {
+        Timer.builder(FORY_POOL_WAIT)
+                .description("Time callers waited for a Fory instance of a full pool")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQueueWait(long millis) {
+        Timer.builder(QUEUE_WAIT)
+                .description("Time requests waited in the queue before their admission check")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordRejection(String reason) {
+        Counter.builder(REJECTED)
+                .description("Requests rejected by their headers before decoding")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void registerAutoscaling(String queue, IntSupplier consumers, IntSupplier prefetch) {
+        Gauge.builder(AUTOSCALE_CONSUMERS, consumers::getAsInt)
+                .description("Number of consumers of an autoscaled queue")
+                .tag("queue", queue)
+                .register(registry);
+        Gauge.builder(AUTOSCALE_PREFETCH, prefetch::getAsInt)
+                .description("Prefetch of new consumers of an autoscaled queue")
+                .tag("queue", queue)
+                .register(registry);
+    }
+
+    @Override
+    public void recordScalingDecision(String queue, String action) {
+        Counter.builder(AUTOSCALE_DECISIONS)
+                .description("Decisions of the consumer autoscaler")
+                .tag("queue", queue)
+                .tag("action", action)
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void registerConcurrencyLimit(String service, IntSupplier limit, IntSupplier inFlight,
+                                         LongSupplier rejected) {
+        Gauge.builder(CLIENT_LIMIT, limit::getAsInt)
+                .description("Adaptive concurrency limit of a client")
+                .tag("service", service)
+                .register(registry);
+        Gauge.builder(CLIENT_IN_FLIGHT, inFlight::getAsInt)
+                .description("Calls of a client in flight")
+                .tag("service", service)
+                .register(registry);
+        FunctionCounter.builder(CLIENT_LIMITED, rejected, LongSupplier::getAsLong)
+                .description("Calls rejected by the concurrency limit of a client")
+                .tag("service", service)
+                .register(registry);
+    }
+
+    @Override
+    public void recordRetry(String queue, String outcome) {
+        Counter.builder(RETRIES)
+                .description("Failed requests published to a retry tier, parked or expired before a retry")
+                .tag("queue", queue)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    private Timer compressionTimer(String encoding, String operation) {
+        return Timer.builder(COMPRESSION_TIMER)
+                .description("Time spent compressing and decompressing message bodies")
+                .tag("encoding", encoding)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
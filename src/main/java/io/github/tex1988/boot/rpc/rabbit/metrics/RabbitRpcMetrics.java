@@ -0,0 +1,120 @@
+package io.github.tex1988.boot.rpc.rabbit.metrics;
+
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Records Rabbit RPC runtime metrics.
+ * <p>
+ * All methods are no-ops by default. If Micrometer is on the classpath and a
+ * {@code MeterRegistry} bean is available, {@link MicrometerRabbitRpcMetrics} is used.
+ * Define a bean of this type to record metrics elsewhere.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public interface RabbitRpcMetrics {
+
+    /**
+     * A {@link RabbitRpcMetrics} that records nothing.
+     */
+    RabbitRpcMetrics NOOP = new RabbitRpcMetrics() {
+    };
+
+    /**
+     * Records the compression of a message body.
+     *
+     * @param encoding       the compression encoding, e.g. {@code lz4}
+     * @param originalSize   the size of the body before compression, in bytes
+     * @param compressedSize the size of the body after compression, in bytes
+     * @param nanos          the time spent compressing, in nanoseconds
+     */
+    default void recordCompression(String encoding, int originalSize, int compressedSize, long nanos) {
+    }
+
+    /**
+     * Records the decompression of a message body.
+     *
+     * @param encoding       the compression encoding, e.g. {@code lz4}
+     * @param compressedSize the size of the compressed body, in bytes
+     * @param originalSize   the size of the body after decompression, in bytes
+     * @param nanos          the time spent decompressing, in nanoseconds
+     */
+    default void recordDecompression(String encoding, int compressedSize, int originalSize, long nanos) {
+    }
+
+    /**
+     * Registers the size of the Fory instance pool of the default message converter.
+     *
+     * @param size     supplies the number of instances, in use or idle
+     * @param idleSize supplies the number of idle instances
+     */
+    default void registerForyPool(IntSupplier size, IntSupplier idleSize) {
+    }
+
+    /**
+     * Records the time a caller waited for a Fory instance because the pool reached its maximum size.
+     *
+     * @param nanos the time spent waiting, in nanoseconds
+     */
+    default void recordForyPoolWait(long nanos) {
+    }
+
+    /**
+     * Records the time a request waited in the queue, from its send time to its admission check.
+     *
+     * @param millis the time spent in the queue, in milliseconds
+     */
+    default void recordQueueWait(long millis) {
+    }
+
+    /**
+     * Records a request rejected by its headers before decoding.
+     *
+     * @param reason the rejection reason, e.g. {@code unknown_method}
+     */
+    default void recordRejection(String reason) {
+    }
+
+    /**
+     * Registers the consumers and the prefetch of an autoscaled queue.
+     *
+     * @param queue     the queue name
+     * @param consumers supplies the current number of consumers
+     * @param prefetch  supplies the current prefetch of new consumers
+     */
+    default void registerAutoscaling(String queue, IntSupplier consumers, IntSupplier prefetch) {
+    }
+
+    /**
+     * Records a decision of the consumer autoscaler.
+     *
+     * @param queue  the queue name
+     * @param action the decision, {@code increase}, {@code decrease} or {@code hold}
+     */
+    default void recordScalingDecision(String queue, String action) {
+    }
+
+    /**
+     * Registers the adaptive concurrency limit of a client.
+     *
+     * @param service  the service name
+     * @param limit    supplies the current limit
+     * @param inFlight supplies the number of calls in flight
+     * @param rejected supplies the number of calls rejected so far
+     */
+    default void registerConcurrencyLimit(String service, IntSupplier limit, IntSupplier inFlight,
+                                          LongSupplier rejected) {
+    }
+
+    /**
+     * Records a failed request published to a retry tier or to the parking queue, or not retried as its
+     * deadline passes before the next attempt.
+     *
+     * @param queue   the queue name
+     * @param outcome {@code retried}, {@code parked} or {@code expired}
+     */
+    default void recordRetry(String queue, String outcome) {
+    }
+}
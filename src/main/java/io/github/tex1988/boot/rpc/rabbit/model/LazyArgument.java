@@ -0,0 +1,90 @@
+package io.github.tex1988.boot.rpc.rabbit.model;
+
+import java.util.function.Function;
+
+/**
+ * An argument that is decoded on the server only when it is first accessed.
+ * <p>
+ * Declare a parameter as {@code LazyArgument<T>} to let the implementation return early without paying
+ * for the decoding of a large value, e.g. {@code Result process(String kind, LazyArgument<Document> document)}.
+ * The client passes {@link #of(Object)}; the value is encoded separately from the other arguments, and the
+ * server keeps its encoded bytes until {@link #get()} is called. Supported by the Fory converter.
+ * </p>
+ *
+ * @param <T> the value type
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public final class LazyArgument<T> {
+
+    private byte[] encoded;
+    private Function<byte[], Object> decoder;
+    private T value;
+
+    private LazyArgument(T value, byte[] encoded, Function<byte[], Object> decoder) {
+        this.value = value;
+        this.encoded = encoded;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Creates an argument holding a value.
+     *
+     * @param value the value
+     * @param <T>   the value type
+     * @return the argument
+     */
+    public static <T> LazyArgument<T> of(T value) {
+        return new LazyArgument<>(value, null, null);
+    }
+
+    /**
+     * Creates an argument holding an encoded value. Used by message converters.
+     *
+     * @param encoded the encoded value
+     * @param decoder decodes the value on first access
+     * @param <T>     the value type
+     * @return the argument
+     */
+    public static <T> LazyArgument<T> ofEncoded(byte[] encoded, Function<byte[], Object> decoder) {
+        return new LazyArgument<>(null, encoded, decoder);
+    }
+
+    /**
+     * Returns the value, decoding it on first access.
+     *
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T get() {
+        if (encoded != null) {
+            value = (T) decoder.apply(encoded);
+            encoded = null;
+            decoder = null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the encoded value, if the value has not been decoded yet. Used by message converters.
+     *
+     * @return the encoded value, or {@code null} if the argument holds a decoded value
+     */
+    public synchronized byte[] getEncoded() {
+        return encoded;
+    }
+
+    /**
+     * Checks whether the value is available without decoding.
+     *
+     * @return {@code true} if the argument holds a decoded value
+     */
+    public synchronized boolean isDecoded() {
+        return encoded == null;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return encoded != null ? "LazyArgument[" + encoded.length + " bytes]" : "LazyArgument[" + value + "]";
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.tex1988.boot.rpc.rabbit.model;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.LinkedHashMap;
+
+/**
+ * A specialized {@link LinkedHashMap} for mapping message content types to {@link MessageConverter} codecs.
+ * <p>
+ * Define a bean of this class to register additional codecs (e.g. JSON, Protobuf or Kryo) next to
+ * the default Fory codec. Clients select a codec per interface with {@link RabbitRpcInterface#contentType()},
+ * servers decode every request with the codec registered for its {@code contentType}
+ * and reply with the same codec, so several codecs can be served concurrently.
+ * </p>
+ * <p>
+ * A registered codec must restore the argument types of the {@code Object[]} request payload
+ * and must set the content type it is registered with on the messages it creates.
+ * Codecs implementing {@link io.github.tex1988.boot.rpc.rabbit.converter.SignatureAwareMessageConverter}
+ * receive the declared parameter types of the invoked method instead.
+ * </p>
+ *
+ * @author tex1988
+ * @see RabbitRpcInterface#contentType()
+ * @since 2026-10-18
+ */
+public class RabbitRpcConverterMapping extends LinkedHashMap<String, MessageConverter> {
+}
@@ -0,0 +1,65 @@
+package io.github.tex1988.boot.rpc.rabbit.priority;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.MessagePriority;
+
+import java.util.function.Supplier;
+
+/**
+ * Sets the message priority of the Rabbit RPC calls made by the current thread, overriding
+ * {@link MessagePriority} of the called methods.
+ * <pre>{@code
+ * Report report = PriorityContext.call(9, () -> reportService.getReport(id));
+ * }</pre>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public final class PriorityContext {
+
+    private static final ThreadLocal<Integer> PRIORITY = new ThreadLocal<>();
+
+    private PriorityContext() {
+    }
+
+    /**
+     * Makes calls with the given priority.
+     *
+     * @param priority the message priority of the calls
+     * @param calls    the calls
+     * @param <T>      the result type
+     * @return the result of the calls
+     */
+    public static <T> T call(int priority, Supplier<T> calls) {
+        Integer previous = PRIORITY.get();
+        PRIORITY.set(priority);
+        try {
+            return calls.get();
+        } finally {
+            if (previous != null) {
+                PRIORITY.set(previous);
+            } else {
+                PRIORITY.remove();
+            }
+        }
+    }
+
+    /**
+     * Makes calls with the given priority.
+     *
+     * @param priority the message priority of the calls
+     * @param calls    the calls
+     */
+    public static void run(int priority, Runnable calls) {
+        call(priority, () -> {
+            calls.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return the priority of the calls of the current thread, or {@code null} if none is set
+     */
+    public static Integer getPriority() {
+        return PRIORITY.get();
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.tex1988.boot.rpc.rabbit.quarantine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.CLAIM_CHECK_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DICTIONARY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.QUARANTINED_HEADER;
+
+/**
+ * Quarantines poison messages of a queue before they are checked out, decompressed or decoded.
+ * <p>
+ * Runs as the first after-receive post-processor of the listener container. A message delivered more than
+ * the maximum number of times is published as received to the quarantine queue, and a bodiless stand-in
+ * carrying the {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#QUARANTINED_HEADER} header is passed
+ * on, so the admission check answers the caller with an error without touching the payload.
+ * </p>
+ *
+ * <p>Quorum queues count deliveries in the {@code x-delivery-count} header. For other queues only the
+ * {@code redelivered} flag is known, so redeliveries are counted by this consumer per message id, correlation
+ * id or body, and are lost when it restarts. Both are only inspected for redelivered messages.</p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public class PoisonMessageQuarantine implements MessagePostProcessor {
+
+    private static final String QUARANTINE_QUEUE_SUFFIX = ".quarantine";
+    private static final String DELIVERY_COUNT_HEADER = "x-delivery-count";
+    private static final int MAX_TRACKED_MESSAGES = 10_000;
+
+    private final String queueName;
+    private final int maxDeliveries;
+    private final RabbitTemplate rabbitTemplate;
+    private final Map<String, Integer> redeliveries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > MAX_TRACKED_MESSAGES;
+                }
+            });
+
+    /**
+     * @param queueName      the name of the queue the messages are consumed from
+     * @param maxDeliveries  the number of deliveries after which a message is quarantined
+     * @param rabbitTemplate publishes the poison messages to the quarantine queue
+     */
+    public PoisonMessageQuarantine(String queueName, int maxDeliveries, RabbitTemplate rabbitTemplate) {
+        this.queueName = queueName;
+        this.maxDeliveries = maxDeliveries;
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * @return the name of the queue holding the poison messages of a queue
+     */
+    public static String getQuarantineQueueName(String queueName) {
+        return queueName + QUARANTINE_QUEUE_SUFFIX;
+    }
+
+    @Override
+    public Message postProcessMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object deliveryCount = properties.getHeader(DELIVERY_COUNT_HEADER);
+        if (!properties.isRedelivered() && deliveryCount == null) {
+            return message;
+        }
+        String key = null;
+        int deliveries;
+        if (deliveryCount instanceof Number count) {
+            deliveries = count.intValue() + 1;
+        } else if (properties.isRedelivered()) {
+            key = getKey(message);
+            deliveries = redeliveries.merge(key, 1, Integer::sum) + 1;
+        } else {
+            return message;
+        }
+        if (deliveries <= maxDeliveries) {
+            return message;
+        }
+        if (key != null) {
+            redeliveries.remove(key);
+        }
+        // Quarantine the message as received, with its claim-check blob and compression intact
+        properties.setDeliveryMode(properties.getReceivedDeliveryMode());
+        rabbitTemplate.send("", getQuarantineQueueName(queueName), message);
+        log.warn("Quarantined message {} of queue {} after {} deliveries", properties.getCorrelationId(), queueName,
+                deliveries);
+        properties.setContentEncoding(null);
+        properties.getHeaders().remove(CLAIM_CHECK_HEADER);
+        properties.getHeaders().remove(DICTIONARY_HEADER);
+        properties.setHeader(QUARANTINED_HEADER, deliveries);
+        return new Message(new byte[0], properties);
+    }
+
+    private String getKey(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        if (properties.getMessageId() != null) {
+            return properties.getMessageId();
+        }
+        if (properties.getCorrelationId() != null) {
+            return properties.getCorrelationId();
+        }
+        return message.getBody().length + ":" + Arrays.hashCode(message.getBody());
+    }
+}
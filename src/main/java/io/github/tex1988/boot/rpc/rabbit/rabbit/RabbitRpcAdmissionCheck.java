@@ -0,0 +1,155 @@
+package io.github.tex1988.boot.rpc.rabbit.rabbit;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.MessageConverterRegistry;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
+import io.github.tex1988.boot.rpc.rabbit.util.Utils;
+import lombok.Getter;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.QUARANTINED_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SENT_AT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SIGNATURE_HEADER;
+
+/**
+ * Admits Rabbit RPC requests by their headers only, before the body is decoded.
+ * <p>
+ * A request is rejected with a {@link RabbitRpcServiceException} if it was quarantined as a poison message,
+ * if its content type has no codec,
+ * if its {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#DEADLINE_HEADER} has passed,
+ * if it waited in the queue longer than the configured fraction of its remaining budget,
+ * or if it addresses a service or method that is not served. Rejections are counted per {@link Reason}
+ * by {@link RabbitRpcMetrics#recordRejection(String)}, and the queue wait of requests stamped with
+ * {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#SENT_AT_HEADER} by
+ * {@link RabbitRpcMetrics#recordQueueWait(long)}.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class RabbitRpcAdmissionCheck {
+
+    /**
+     * The reason a request was rejected.
+     */
+    @Getter
+    public enum Reason {
+
+        QUARANTINED("quarantined", ErrorStatusCode.BAD_REQUEST),
+        UNSUPPORTED_CONTENT_TYPE("unsupported_content_type", ErrorStatusCode.UNSUPPORTED_MEDIA_TYPE),
+        EXPIRED("expired", ErrorStatusCode.REQUEST_TIMEOUT),
+        OVERLOADED("overloaded", ErrorStatusCode.SERVICE_UNAVAILABLE),
+        UNKNOWN_SERVICE("unknown_service", ErrorStatusCode.NOT_FOUND),
+        UNKNOWN_METHOD("unknown_method", ErrorStatusCode.NOT_FOUND);
+
+        private final String tag;
+        private final ErrorStatusCode statusCode;
+
+        Reason(String tag, ErrorStatusCode statusCode) {
+            this.tag = tag;
+            this.statusCode = statusCode;
+        }
+    }
+
+    private final String serviceName;
+    private final MessageConverter converter;
+    private final RouteRegistry routeRegistry;
+    private final RabbitRpcMetrics metrics;
+    private final Double queueWaitRatio;
+    private final Map<String, Set<String>> methodNames = new HashMap<>();
+    private final Map<String, Set<String>> signatures = new HashMap<>();
+
+    /**
+     * @param serviceName   the name of the Rabbit RPC service, reported in rejection replies
+     * @param methodHandles the method handles of the served interfaces
+     * @param converter     the message converter, to check content types against
+     * @param routeRegistry the registry of compact routes
+     * @param metrics        the metrics to count rejections with
+     * @param queueWaitRatio the fraction of the remaining budget a request may have waited in the queue,
+     *                       or {@code null} to serve requests regardless of their queue wait
+     */
+    public RabbitRpcAdmissionCheck(String serviceName, Map<Class<?>, Map<Method, MethodHandle>> methodHandles,
+                                   MessageConverter converter, RouteRegistry routeRegistry, RabbitRpcMetrics metrics,
+                                   Double queueWaitRatio) {
+        this.serviceName = serviceName;
+        this.converter = converter;
+        this.routeRegistry = routeRegistry;
+        this.metrics = metrics;
+        this.queueWaitRatio = queueWaitRatio;
+        methodHandles.forEach((iClazz, handles) -> handles.keySet().forEach(method -> {
+            methodNames.computeIfAbsent(iClazz.getCanonicalName(), k -> new HashSet<>()).add(method.getName());
+            signatures.computeIfAbsent(iClazz.getCanonicalName(), k -> new HashSet<>())
+                    .add(Utils.getMethodSignature(method));
+        }));
+    }
+
+    /**
+     * Checks the headers of a request.
+     *
+     * @param properties the properties of the request
+     * @throws RabbitRpcServiceException if the request is rejected
+     */
+    public void check(MessageProperties properties) {
+        Object deliveries = properties.getHeader(QUARANTINED_HEADER);
+        if (deliveries != null) {
+            reject(Reason.QUARANTINED, "Request quarantined after " + deliveries + " deliveries");
+        }
+        String contentType = properties.getContentType();
+        if (converter instanceof MessageConverterRegistry registry && !registry.supports(contentType)) {
+            reject(Reason.UNSUPPORTED_CONTENT_TYPE, "Unsupported content type: " + contentType);
+        }
+        long now = System.currentTimeMillis();
+        Object deadline = properties.getHeader(DEADLINE_HEADER);
+        if (deadline instanceof Number deadlineMillis && now > deadlineMillis.longValue()) {
+            reject(Reason.EXPIRED, "Request expired before processing");
+        }
+        if (properties.getHeader(SENT_AT_HEADER) instanceof Number sentAt) {
+            long wait = Math.max(0, now - sentAt.longValue());
+            metrics.recordQueueWait(wait);
+            // A request that waited long relative to its remaining budget is likely to be answered late
+            if (queueWaitRatio != null && deadline instanceof Number deadlineMillis
+                    && wait > queueWaitRatio * (deadlineMillis.longValue() - now)) {
+                reject(Reason.OVERLOADED, "Request shed after waiting " + wait + " ms in the queue");
+            }
+        }
+        Object routeId = properties.getHeader(ROUTE_HEADER);
+        if (routeId != null) {
+            if (!(routeId instanceof Number id) || routeRegistry.getRoute(id.longValue()) == null) {
+                reject(Reason.UNKNOWN_METHOD, "Route: " + routeId + " not found");
+            }
+            return;
+        }
+        Object service = properties.getHeader(SERVICE_HEADER);
+        if (service == null || !signatures.containsKey(service.toString())) {
+            reject(Reason.UNKNOWN_SERVICE, "Service: " + service + " not found");
+        }
+        Object signature = properties.getHeader(SIGNATURE_HEADER);
+        Object method = properties.getHeader(METHOD_HEADER);
+        boolean known = signature != null
+                ? signatures.get(service.toString()).contains(signature.toString())
+                : method != null && methodNames.get(service.toString()).contains(method.toString());
+        if (!known) {
+            reject(Reason.UNKNOWN_METHOD, "Method: " + (signature != null ? signature : method) + " not found");
+        }
+    }
+
+    private void reject(Reason reason, String message) {
+        metrics.recordRejection(reason.getTag());
+        throw new RabbitRpcServiceException(Utils.getTimestamp(), serviceName, reason.getStatusCode().getCode(),
+                message);
+    }
+}
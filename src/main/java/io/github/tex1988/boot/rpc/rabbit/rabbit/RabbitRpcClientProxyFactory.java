@@ -1,17 +1,36 @@
 package io.github.tex1988.boot.rpc.rabbit.rabbit;
 
 import io.github.tex1988.boot.rpc.rabbit.annotation.FireAndForget;
+import io.github.tex1988.boot.rpc.rabbit.annotation.MessagePriority;
 import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.ClaimCheckRegistry;
+import io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry;
+import io.github.tex1988.boot.rpc.rabbit.limit.AdaptiveConcurrencyLimiter;
+import io.github.tex1988.boot.rpc.rabbit.priority.PriorityContext;
+import io.github.tex1988.boot.rpc.rabbit.routing.PartitionRouting;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
+import io.github.tex1988.boot.rpc.rabbit.stream.StreamRegistry;
 import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.RawBody;
+import io.github.tex1988.boot.rpc.rabbit.converter.SignatureAwareMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcLimitExceededException;
 import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
 import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceValidationException;
 import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
 import io.github.tex1988.boot.rpc.rabbit.model.NullResponse;
+import io.github.tex1988.boot.rpc.rabbit.util.Utils;
 import jakarta.annotation.PostConstruct;
+import lombok.Getter;
 import lombok.Setter;
-import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.AmqpMessageReturnedException;
+import org.springframework.amqp.core.AmqpReplyTimeoutException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.AsyncRabbitTemplate;
+import org.springframework.amqp.rabbit.RabbitMessageFuture;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -19,9 +38,25 @@ import org.springframework.context.annotation.Lazy;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ACCEPT_RAW_BODY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ENVELOPE_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SENT_AT_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SIGNATURE_HEADER;
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 
 public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
@@ -29,6 +64,7 @@ public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
     private static final Method HASH_CODE;
     private static final Method EQUALS;
     private static final Method TO_STRING;
+    private static final String COMPACT_ROUTING_HEADERS = "compact";
 
     private final Class<T> interfaceType;
 
@@ -39,9 +75,30 @@ public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
     @Setter
     private RabbitTemplate rabbitTemplate;
     @Setter
+    private AsyncRabbitTemplate asyncRabbitTemplate;
+    @Setter
+    private MessageConverter messageConverter;
+    @Setter
+    private CompressionRegistry compressionRegistry;
+    @Setter
+    private ClaimCheckRegistry claimCheckRegistry;
+    @Setter
+    private StreamRegistry streamRegistry;
+    @Setter
     private String messageTtl;
+    @Setter
+    private long replyTimeout;
     private String exchange;
     private String routing;
+    private String contentType;
+    private Map<Method, Map<String, Object>> routingHeaders;
+    private Map<Method, Integer> priorities;
+    private int partitions;
+    private Map<Method, Integer> partitionKeys;
+    @Getter
+    private boolean failFast;
+    @Getter
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     static {
         Class<Object> objClass = Object.class;
@@ -66,6 +123,14 @@ public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
     public void init() {
         this.exchange = expressionResolver.resolveValue(annotation.exchange());
         this.routing = expressionResolver.resolveValue(annotation.routing());
+        this.contentType = expressionResolver.resolveValue(annotation.contentType());
+        this.routingHeaders = createRoutingHeaders(expressionResolver.resolveValue(annotation.routingHeaders()));
+        this.priorities = createPriorities();
+        String partitionsValue = expressionResolver.resolveValue(annotation.partitions());
+        this.partitions = partitionsValue != null && !partitionsValue.isBlank() ? Integer.parseInt(partitionsValue) : 1;
+        this.partitionKeys = createPartitionKeys();
+        this.failFast = Boolean.parseBoolean(expressionResolver.resolveValue(annotation.failFast()));
+        this.concurrencyLimiter = createConcurrencyLimiter(expressionResolver.resolveValue(annotation.clientConcurrencyLimit()));
     }
 
     @Override
@@ -82,19 +147,31 @@ public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
                 return objectToString(proxy);
             }
 
-            MessagePostProcessor postProcessor = getMessagePostProcessor(method.getName());
-
             if (args == null) {
                 args = new Object[0];
             }
 
             assertNotNull(rabbitTemplate, "RabbitTemplate is not set in RabbitRpcClientProxyFactory");
 
+            int streamIndex = streamRegistry != null ? StreamRegistry.getStreamingParameter(method) : -1;
+            if (streamIndex >= 0) {
+                return upload(method, args, streamIndex);
+            }
+
+            Message message = createMessage(method, args);
+            String routingKey = getRoutingKey(method, args);
+
             if (method.isAnnotationPresent(FireAndForget.class)) {
-                rabbitTemplate.convertAndSend(exchange, routing, args, postProcessor);
+                send(routingKey, message);
                 return null;
+            } else if (streamRegistry != null && StreamRegistry.isStreaming(method.getReturnType())) {
+                return streamRegistry.call(interfaceType, method.getReturnType(), rabbitTemplate, exchange, routingKey,
+                        message, replyTimeout, reply -> fromReply(reply, method));
+            } else if (concurrencyLimiter != null) {
+                return callLimited(method, routingKey, message);
             } else {
-                return unwrapResponse(rabbitTemplate.convertSendAndReceive(exchange, routing, args, postProcessor));
+                Message reply = sendAndReceive(routingKey, message);
+                return fromReply(reply, method);
             }
         };
 
@@ -110,16 +187,230 @@ public class RabbitRpcClientProxyFactory<T> implements FactoryBean<T> {
         return interfaceType;
     }
 
-    private MessagePostProcessor getMessagePostProcessor(String methodName) {
-        return message -> {
-            MessageProperties properties = message.getMessageProperties();
-            properties.setHeader(SERVICE_HEADER, interfaceType.getCanonicalName());
-            properties.setHeader(METHOD_HEADER, methodName);
-            if (messageTtl != null && !messageTtl.isEmpty()) {
-                properties.setExpiration(messageTtl);
+    private Object upload(Method method, Object[] args, int streamIndex) {
+        if (StreamRegistry.isStreaming(method.getReturnType())) {
+            throw new IllegalStateException("Method " + method.getName() + " of " + serviceName
+                    + " cannot both take and return a stream");
+        }
+        Object argument = args[streamIndex];
+        Object[] requestArgs = args.clone();
+        requestArgs[streamIndex] = null;
+        Message message = createMessage(method, requestArgs);
+        return streamRegistry.upload(interfaceType, rabbitTemplate, exchange, getRoutingKey(method, args), message,
+                streamIndex, argument, replyTimeout, !method.isAnnotationPresent(FireAndForget.class),
+                reply -> fromReply(reply, method));
+    }
+
+    private Message createMessage(Method method, Object[] args) {
+        MessageProperties properties = new MessageProperties();
+        if (contentType != null && !contentType.isBlank()) {
+            properties.setContentType(contentType);
+        }
+        Message message;
+        if (RawBody.supports(method.getParameterTypes()) && args[0] != null) {
+            message = RawBody.toMessage(args[0], properties);
+        } else if (messageConverter instanceof SignatureAwareMessageConverter signatureAwareConverter) {
+            message = signatureAwareConverter.toMessage(args, method.getParameterTypes(), properties);
+        } else {
+            message = messageConverter.toMessage(args, properties);
+        }
+        properties = message.getMessageProperties();
+        properties.getHeaders().putAll(routingHeaders.get(method));
+        if (RawBody.supports(method.getReturnType())) {
+            // Servers reply raw only to clients which can decode it
+            properties.setHeader(ACCEPT_RAW_BODY_HEADER, true);
+        }
+        Integer priority = PriorityContext.getPriority();
+        if (priority == null) {
+            priority = priorities.get(method);
+        }
+        if (priority != null) {
+            properties.setPriority(priority);
+        }
+        // The server measures the queue wait from the send time
+        long now = System.currentTimeMillis();
+        properties.setHeader(SENT_AT_HEADER, now);
+        if (replyTimeout > 0 && !method.isAnnotationPresent(FireAndForget.class)) {
+            // The caller stops waiting after the reply timeout, so the server can skip later requests
+            properties.setHeader(DEADLINE_HEADER, now + replyTimeout);
+        }
+        if (messageTtl != null && !messageTtl.isEmpty()) {
+            properties.setExpiration(messageTtl);
+        }
+        if (compressionRegistry != null) {
+            message = compressionRegistry.compress(interfaceType, message);
+        }
+        return claimCheckRegistry != null ? claimCheckRegistry.checkIn(interfaceType, message) : message;
+    }
+
+    private void send(String routingKey, Message message) throws InterruptedException, ExecutionException {
+        if (!failFast || asyncRabbitTemplate == null) {
+            rabbitTemplate.send(exchange, routingKey, message);
+            return;
+        }
+        CorrelationData correlationData = new CorrelationData();
+        asyncRabbitTemplate.getRabbitTemplate().send(exchange, routingKey, message, correlationData);
+        if (asyncRabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            // Wait until the broker takes the request, so a full queue rejects it at once
+            CorrelationData.Confirm confirm;
+            try {
+                confirm = correlationData.getFuture().get(replyTimeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw unavailable("Request to " + serviceName + " was not confirmed by the broker");
             }
-            return message;
-        };
+            if (correlationData.getReturned() != null) {
+                throw unavailable("Request to " + serviceName + " is unroutable: "
+                        + correlationData.getReturned().getReplyText());
+            }
+            if (!confirm.isAck()) {
+                throw unavailable("Request to " + serviceName + " was rejected by the broker: " + confirm.getReason());
+            }
+        }
+    }
+
+    private Message sendAndReceive(String routingKey, Message message) throws InterruptedException {
+        if (!failFast || asyncRabbitTemplate == null) {
+            return rabbitTemplate.sendAndReceive(exchange, routingKey, message);
+        }
+        RabbitMessageFuture future = asyncRabbitTemplate.sendAndReceive(exchange, routingKey, message);
+        if (future.getConfirm() != null) {
+            // Stop waiting for the reply of a request the broker rejected
+            future.getConfirm().thenAccept(ack -> {
+                if (!ack) {
+                    future.completeExceptionally(unavailable("Request to " + serviceName
+                            + " was rejected by the broker: " + future.getNackCause()));
+                }
+            });
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AmqpMessageReturnedException returned) {
+                throw unavailable("Request to " + serviceName + " is unroutable: " + returned.getReplyText());
+            } else if (e.getCause() instanceof AmqpReplyTimeoutException) {
+                return null;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Calls the service within the concurrency limit, which adapts to the round trip time of the call.
+     * Calls that time out or are shed by the service count as drops.
+     */
+    private Object callLimited(Method method, String routingKey, Message message) throws InterruptedException {
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new RabbitRpcLimitExceededException(Utils.getTimestamp(), serviceName,
+                    concurrencyLimiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            Message reply = sendAndReceive(routingKey, message);
+            dropped = reply == null;
+            return fromReply(reply, method);
+        } catch (RabbitRpcServiceException e) {
+            dropped = dropped || e.getStatusCode() == ErrorStatusCode.SERVICE_UNAVAILABLE.getCode();
+            throw e;
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter createConcurrencyLimiter(String bounds) {
+        if (bounds == null || bounds.isBlank()) {
+            return null;
+        }
+        List<Integer> limits = Arrays.stream(bounds.split("-")).map(String::trim).map(Integer::parseInt).toList();
+        return new AdaptiveConcurrencyLimiter(limits.get(0), limits.get(limits.size() - 1));
+    }
+
+    private RabbitRpcServiceException unavailable(String message) {
+        return new RabbitRpcServiceException(Utils.getTimestamp(), serviceName,
+                ErrorStatusCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    /**
+     * Precomputes the routing headers of every method, so a request only copies its entries.
+     */
+    private Map<Method, Map<String, Object>> createRoutingHeaders(String mode) {
+        boolean compact;
+        if (mode == null || mode.isBlank() || mode.equalsIgnoreCase("names")) {
+            compact = false;
+        } else if (mode.equalsIgnoreCase(COMPACT_ROUTING_HEADERS)) {
+            compact = true;
+        } else {
+            throw new IllegalStateException("Unsupported routing headers mode of " + serviceName + ": " + mode);
+        }
+        return Arrays.stream(interfaceType.getMethods())
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), method -> compact
+                        ? Map.of(ROUTE_HEADER, RouteRegistry.getRouteId(interfaceType, method))
+                        : Map.of(SERVICE_HEADER, interfaceType.getCanonicalName(),
+                        METHOD_HEADER, method.getName(),
+                        SIGNATURE_HEADER, Utils.getMethodSignature(method))));
+    }
+
+    /**
+     * Resolves the {@link MessagePriority} of every method, so a request only looks up its priority.
+     */
+    private Map<Method, Integer> createPriorities() {
+        MessagePriority interfacePriority = interfaceType.getAnnotation(MessagePriority.class);
+        Map<Method, Integer> methodPriorities = new HashMap<>();
+        for (Method method : interfaceType.getMethods()) {
+            MessagePriority priority = method.isAnnotationPresent(MessagePriority.class)
+                    ? method.getAnnotation(MessagePriority.class) : interfacePriority;
+            if (priority != null) {
+                methodPriorities.put(method, priority.value());
+            }
+        }
+        return Map.copyOf(methodPriorities);
+    }
+
+    /**
+     * Resolves the {@link io.github.tex1988.boot.rpc.rabbit.annotation.PartitionKey} parameter of every method.
+     */
+    private Map<Method, Integer> createPartitionKeys() {
+        Map<Method, Integer> keys = new HashMap<>();
+        for (Method method : interfaceType.getMethods()) {
+            int index = PartitionRouting.getPartitionKeyIndex(method);
+            if (index >= 0) {
+                keys.put(method, index);
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    /**
+     * Routes a request of a partitioned interface to the partition of its key, or to a random partition
+     * if the method has no key.
+     */
+    private String getRoutingKey(Method method, Object[] args) {
+        if (partitions <= 1) {
+            return routing;
+        }
+        Integer keyIndex = partitionKeys.get(method);
+        int partition = keyIndex != null ? PartitionRouting.getPartition(args[keyIndex], partitions)
+                : ThreadLocalRandom.current().nextInt(partitions);
+        return PartitionRouting.getRoutingKey(routing, partition);
+    }
+
+    private Object fromReply(Message reply, Method method) {
+        if (reply != null && claimCheckRegistry != null) {
+            reply = claimCheckRegistry.checkOutReply(reply);
+        }
+        if (reply != null && compressionRegistry != null) {
+            reply = compressionRegistry.decompress(reply);
+        }
+        if (reply != null && RawBody.isRaw(reply)) {
+            return RawBody.fromMessage(reply, method.getReturnType());
+        }
+        if (reply != null && reply.getMessageProperties().getHeader(ENVELOPE_HEADER) != null
+                && messageConverter instanceof SignatureAwareMessageConverter signatureAwareConverter) {
+            return signatureAwareConverter.fromMessage(reply, new Class<?>[]{method.getReturnType()})[0];
+        }
+        return unwrapResponse(reply != null ? messageConverter.fromMessage(reply) : null);
     }
 
     @SuppressWarnings("unchecked")
@@ -7,12 +7,14 @@ import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
 import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceValidationException;
 import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
 import io.github.tex1988.boot.rpc.rabbit.model.RabbitRpcErrorMapping;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
 import io.github.tex1988.boot.rpc.rabbit.util.Utils;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.listener.api.RabbitListenerErrorHandler;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
 import org.springframework.messaging.support.MessageBuilder;
 
@@ -21,7 +23,9 @@ import java.lang.reflect.Method;
 import java.util.Map;
 
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SIGNATURE_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.TYPE_ID_HEADER;
 
 /**
@@ -62,6 +66,11 @@ public class RabbitRpcErrorHandler implements RabbitListenerErrorHandler {
      */
     private final Map<Class<?>, Map<Method, MethodHandle>> methodHandles;
 
+    /**
+     * Resolves the methods of requests sent with the compact route header.
+     */
+    private final RouteRegistry routeRegistry;
+
     /**
      * Handles errors that occur during the execution of RabbitMQ message listeners.
      *
@@ -77,6 +86,13 @@ public class RabbitRpcErrorHandler implements RabbitListenerErrorHandler {
         ErrorRabbitResponse response;
         String methodName = getHeader(amqpMessage, METHOD_HEADER);
         String className = getHeader(amqpMessage, SERVICE_HEADER);
+        String signature = getHeader(amqpMessage, SIGNATURE_HEADER);
+        RouteRegistry.Route route = getRoute(amqpMessage);
+        if (route != null) {
+            methodName = route.method().getName();
+            className = route.iClazz().getCanonicalName();
+            signature = Utils.getMethodSignature(route.method());
+        }
         if (errorCodes != null && errorCodes.containsKey(cause.getClass())) {
             response = resolveByMapping(cause);
         } else {
@@ -87,9 +103,10 @@ public class RabbitRpcErrorHandler implements RabbitListenerErrorHandler {
                     className, methodName, exception);
         }
 
-        if (isReturn(className, methodName, message)) {
+        if (isReturn(className, methodName, signature, amqpMessage)) {
             return MessageBuilder.withPayload(response)
                     .setHeader(TYPE_ID_HEADER, ErrorRabbitResponse.class.getCanonicalName())
+                    .setHeader(AmqpHeaders.CONTENT_TYPE, getContentType(amqpMessage))
                     .build();
         } else {
             return null;
@@ -157,18 +174,36 @@ public class RabbitRpcErrorHandler implements RabbitListenerErrorHandler {
         }
     }
 
-    private boolean isReturn(String className, String methodName, org.springframework.messaging.Message<?> message) {
+    private boolean isReturn(String className, String methodName, String signature, Message amqpMessage) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        if (properties == null || properties.getReplyTo() == null) {
+            return false;
+        }
         try {
-            Object[] args = (Object[]) message.getPayload();
             Class<?> iClazz = Utils.getClassByName(this, className);
-            Map.Entry<Method, MethodHandle> methodEntry = Utils.getMethodEntry(methodHandles, iClazz, methodName, args);
-            Method method = methodEntry.getKey();
-            return !method.isAnnotationPresent(FireAndForget.class);
+            if (signature != null) {
+                Method method = Utils.getMethodEntry(methodHandles, iClazz, signature).getKey();
+                return !method.isAnnotationPresent(FireAndForget.class);
+            }
+            return methodHandles.get(iClazz).keySet().stream()
+                    .filter(method -> method.getName().equals(methodName))
+                    .anyMatch(method -> !method.isAnnotationPresent(FireAndForget.class));
         } catch (Exception e) {
             return true;
         }
     }
 
+    private RouteRegistry.Route getRoute(Message amqpMessage) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        Object routeId = properties != null ? properties.getHeader(ROUTE_HEADER) : null;
+        return routeId instanceof Number number ? routeRegistry.getRoute(number.longValue()) : null;
+    }
+
+    private String getContentType(Message amqpMessage) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        return properties != null ? properties.getContentType() : null;
+    }
+
     private String getHeader(Message amqpMessage, String header) {
         MessageProperties properties = amqpMessage.getMessageProperties();
         if (properties != null) {
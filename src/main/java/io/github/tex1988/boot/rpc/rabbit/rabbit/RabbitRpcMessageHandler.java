@@ -1,26 +1,45 @@
 package io.github.tex1988.boot.rpc.rabbit.rabbit;
 
+import io.github.tex1988.boot.rpc.rabbit.annotation.Bulkhead;
 import io.github.tex1988.boot.rpc.rabbit.annotation.FireAndForget;
+import io.github.tex1988.boot.rpc.rabbit.bulkhead.BulkheadRegistry;
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.ClaimCheckRegistry;
+import io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry;
+import io.github.tex1988.boot.rpc.rabbit.converter.RawBody;
+import io.github.tex1988.boot.rpc.rabbit.converter.SignatureAwareMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
 import io.github.tex1988.boot.rpc.rabbit.model.NullResponse;
 import io.github.tex1988.boot.rpc.rabbit.model.VoidRabbitResponse;
+import io.github.tex1988.boot.rpc.rabbit.retry.RetryPolicy;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
+import io.github.tex1988.boot.rpc.rabbit.scaling.ConsumerLoad;
+import io.github.tex1988.boot.rpc.rabbit.stream.ChunkIterator;
+import io.github.tex1988.boot.rpc.rabbit.stream.StreamRegistry;
 import io.github.tex1988.boot.rpc.rabbit.util.Utils;
 import io.github.tex1988.boot.rpc.rabbit.validator.RabbitRpcValidator;
 import com.rabbitmq.client.Channel;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Address;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.api.RabbitListenerErrorHandler;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
 import org.springframework.amqp.support.converter.MessageConverter;
-import org.springframework.messaging.support.MessageBuilder;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Objects;
 
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ENVELOPE_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SIGNATURE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_UPLOAD_HEADER;
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.TYPE_ID_HEADER;
 
 /**
@@ -34,7 +53,16 @@ import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.TYPE_ID_HEADE
  *     <li>Returning the result or handling fire-and-forget messages.</li>
  * </ul>
  *
- * <p>Messages must include headers specifying the method and service name.</p>
+ * <p>Messages must include either the compact route header, resolved by the {@link RouteRegistry},
+ * or headers specifying the method and service name. If the signature header is present, the method is
+ * resolved by its exact signature and the payload is decoded with the declared parameter types;
+ * otherwise the method is inferred from the runtime types of the decoded arguments.</p>
+ *
+ * <p>Methods annotated with {@link Bulkhead} are invoked on their executor after validation, and their replies
+ * are published by the executor thread.</p>
+ *
+ * <p>Failed requests of queues with retry tiers are published to their next tier and acknowledged, and only
+ * the failure of the last attempt is passed to the error handler.</p>
  *
  * @author tex1988
  * @since 2024-04-12
@@ -50,67 +78,279 @@ public class RabbitRpcMessageHandler {
 
     /**
      * Converter for transforming RabbitMQ messages to method arguments.
+     * The reply is encoded with the codec of the request content type.
      */
     private final MessageConverter converter;
 
+    /**
+     * Compresses replies according to the settings of the invoked interface.
+     */
+    private final CompressionRegistry compressionRegistry;
+
+    /**
+     * Offloads oversized replies to a blob store according to the settings of the invoked interface,
+     * and deletes the stored bodies of handled requests.
+     */
+    private final ClaimCheckRegistry claimCheckRegistry;
+
+    /**
+     * Publishes results of streaming methods in chunks.
+     */
+    private final StreamRegistry streamRegistry;
+
     /**
      * A mapping between service interfaces and their methods, associated with {@link MethodHandle}s for invocation.
      */
     private final Map<Class<?>, Map<Method, MethodHandle>> methodHandles;
 
+    /**
+     * Resolves the compact route header of a request to the target method.
+     */
+    private final RouteRegistry routeRegistry;
+
+    /**
+     * Rejects requests by their headers before the body is decoded.
+     */
+    private final RabbitRpcAdmissionCheck admissionCheck;
+
+    /**
+     * Accumulates the handling time of requests, sampled by the consumer autoscaler.
+     */
+    private final ConsumerLoad load;
+
+    /**
+     * Runs methods annotated with {@link Bulkhead} on their executors.
+     */
+    private final BulkheadRegistry bulkheadRegistry;
+
+    /**
+     * Publishes the replies of methods run on a bulkhead executor.
+     */
+    private final RabbitTemplate replyTemplate;
+
+    /**
+     * Resolves the error replies of methods run on a bulkhead executor.
+     */
+    private final RabbitListenerErrorHandler errorHandler;
+
+    /**
+     * Publishes failed requests to their next retry tier instead of answering them with an error.
+     */
+    private final RetryPolicy retryPolicy;
+
     /**
      * Processes a RabbitMQ message and invokes the appropriate service method.
      *
      * @param message           the incoming RabbitMQ message
-     * @param channel           the RabbitMQ channel (unused in this method)
+     * @param channel           the RabbitMQ channel, used to publish streamed results
      * @param messageProperties the properties of the RabbitMQ message
      * @return a {@link Message} object containing the method's return value
      * or {@code null}if the method is annotated with {@link FireAndForget}
-     * @throws IllegalStateException if the method specified in the headers is not found
+     * @throws RabbitRpcServiceException if the request is rejected by its headers
+     * @throws IllegalStateException     if the method specified in the headers is not found
      */
     @SneakyThrows
     public Object handleMessage(Message message, Channel channel, MessageProperties messageProperties) {
+        long start = System.nanoTime();
+        try {
+            return handle(message, channel, messageProperties);
+        } finally {
+            // The arguments are decoded, and the request is acknowledged with its reply or error reply
+            claimCheckRegistry.release(message);
+            load.record(System.nanoTime() - start);
+        }
+    }
+
+    private Object handle(Message message, Channel channel, MessageProperties messageProperties) throws Throwable {
         log.debug("Received Rabbit RPC message {}", message);
 
-        // Extract method and service names from message headers
-        String methodName = messageProperties.getHeaders().get(METHOD_HEADER).toString();
-        String serviceName = messageProperties.getHeaders().get(SERVICE_HEADER).toString();
+        // Reject requests that can never succeed before decoding them
+        admissionCheck.check(messageProperties);
+
+        Class<?> iClazz;
+        Method method;
+        MethodHandle methodHandle;
+        Object[] args;
+        Object routeId = messageProperties.getHeader(ROUTE_HEADER);
+        if (routeId != null) {
+            // Resolve the target method from the compact route header
+            RouteRegistry.Route route = routeRegistry.getRoute(((Number) routeId).longValue());
+            if (route == null) {
+                throw new IllegalStateException("Route: " + Long.toHexString(((Number) routeId).longValue())
+                        + " not found");
+            }
+            iClazz = route.iClazz();
+            method = route.method();
+            methodHandle = route.methodHandle();
+            args = fromMessage(message, method.getParameterTypes());
+        } else {
+            // Extract method and service names from message headers
+            String methodName = messageProperties.getHeaders().get(METHOD_HEADER).toString();
+            String serviceName = messageProperties.getHeaders().get(SERVICE_HEADER).toString();
+            String signature = messageProperties.getHeader(SIGNATURE_HEADER);
 
-        // Convert message payload to method arguments
-        Object[] args = (Object[]) converter.fromMessage(message);
+            // Load the service class and retrieve its method handles
+            iClazz = Utils.getClassByName(this, serviceName);
 
-        // Load the service class and retrieve its method handles
-        Class<?> iClazz = Utils.getClassByName(this, serviceName);
+            // Find the target method and convert message payload to method arguments
+            Map.Entry<Method, MethodHandle> methodEntry;
+            if (signature != null) {
+                methodEntry = Utils.getMethodEntry(methodHandles, iClazz, signature);
+                args = fromMessage(message, methodEntry.getKey().getParameterTypes());
+            } else {
+                args = (Object[]) converter.fromMessage(message);
+                methodEntry = Utils.getMethodEntry(methodHandles, iClazz, methodName, args);
+            }
+            method = methodEntry.getKey();
+            methodHandle = methodEntry.getValue();
+        }
+        try {
+            return process(message, channel, messageProperties, iClazz, method, methodHandle, args);
+        } catch (Throwable e) {
+            // Streams are not retried: published chunks would be sent again, and uploaded chunks are not
+            if (!isStreaming(method, messageProperties) && retryPolicy.retry(iClazz, message, e)) {
+                // The reply is sent by a later attempt
+                return null;
+            }
+            throw e;
+        }
+    }
 
-        // Find the target method by name
-        Map.Entry<Method, MethodHandle> methodEntry = Utils.getMethodEntry(methodHandles, iClazz, methodName, args);
-        Method method = methodEntry.getKey();
-        MethodHandle methodHandle = methodEntry.getValue();
+    private Object process(Message message, Channel channel, MessageProperties messageProperties, Class<?> iClazz,
+                           Method method, MethodHandle methodHandle, Object[] args) throws Throwable {
         Class<?> returnType = method.getReturnType();
 
         // Validate method arguments
         validator.validate(args, method, iClazz);
 
+        // Hand the invocation over to the bulkhead executor of the method and return to consuming
+        if (bulkheadRegistry.isBulkheaded(method) && !isStreaming(method, messageProperties)) {
+            Class<?> targetClazz = iClazz;
+            Method targetMethod = method;
+            MethodHandle targetMethodHandle = methodHandle;
+            Object[] targetArgs = args;
+            bulkheadRegistry.execute(method, () -> invokeOffloaded(targetClazz, targetMethod, targetMethodHandle,
+                    targetArgs, message));
+            return null;
+        }
+
         // Invoke the target method
-        Object result = methodHandle.invokeWithArguments(args);
+        Object result = invoke(iClazz, method, methodHandle, args, channel, messageProperties);
 
         // Handle fire-and-forget methods
         if (method.isAnnotationPresent(FireAndForget.class)) {
             return null;
+        } else if (StreamRegistry.isStreaming(returnType)) {
+            // Chunks are published directly to the reply queue
+            streamRegistry.publish(iClazz, channel, messageProperties, result);
+            return null;
         } else {
-            return getResponse(returnType, result);
+            return getResponse(iClazz, returnType, result, messageProperties);
+        }
+    }
+
+    private boolean isStreaming(Method method, MessageProperties messageProperties) {
+        return StreamRegistry.isStreaming(method.getReturnType())
+                || messageProperties.getHeader(STREAM_UPLOAD_HEADER) != null;
+    }
+
+    private Object invoke(Class<?> iClazz, Method method, MethodHandle methodHandle, Object[] args, Channel channel,
+                          MessageProperties messageProperties) throws Throwable {
+        Object uploadIndex = messageProperties.getHeader(STREAM_UPLOAD_HEADER);
+        if (uploadIndex == null) {
+            return methodHandle.invokeWithArguments(args);
+        }
+        // The streamed argument is filled from its chunks while the method runs
+        int index = ((Number) uploadIndex).intValue();
+        try (ChunkIterator<Object> upload = streamRegistry.receive(iClazz, channel, messageProperties)) {
+            args[index] = StreamRegistry.toArgument(method.getParameterTypes()[index], upload);
+            return methodHandle.invokeWithArguments(args);
+        }
+    }
+
+    private void invokeOffloaded(Class<?> iClazz, Method method, MethodHandle methodHandle, Object[] args,
+                                 Message message) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        Message reply;
+        try {
+            Object result = methodHandle.invokeWithArguments(args);
+            if (method.isAnnotationPresent(FireAndForget.class)) {
+                return;
+            }
+            reply = getResponse(iClazz, method.getReturnType(), result, messageProperties);
+        } catch (Throwable e) {
+            if (retryPolicy.retry(iClazz, message, e)) {
+                return;
+            }
+            try {
+                reply = getErrorResponse(message, e);
+            } catch (Exception handlerException) {
+                log.error("Failed to handle an error of method {}() run on its bulkhead", method.getName(),
+                        handlerException);
+                return;
+            }
+        }
+        if (reply != null && messageProperties.getReplyTo() != null) {
+            sendReply(messageProperties, reply);
+        }
+    }
+
+    private Message getErrorResponse(Message message, Throwable e) throws Exception {
+        Object error = errorHandler.handleError(message, null, null,
+                new ListenerExecutionFailedException("Bulkhead invocation failed", e, message));
+        if (error == null) {
+            return null;
+        }
+        Object payload = error instanceof org.springframework.messaging.Message<?> errorMessage
+                ? errorMessage.getPayload() : error;
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(message.getMessageProperties().getContentType());
+        properties.setHeader(TYPE_ID_HEADER, payload.getClass().getCanonicalName());
+        return converter.toMessage(payload, properties);
+    }
+
+    private void sendReply(MessageProperties request, Message reply) {
+        // Correlate the reply the same way the listener container does
+        String correlationId = request.getCorrelationId();
+        reply.getMessageProperties().setCorrelationId(correlationId != null ? correlationId : request.getMessageId());
+        Address replyTo = new Address(request.getReplyTo());
+        replyTemplate.send(replyTo.getExchangeName(), replyTo.getRoutingKey(), reply);
+    }
+
+    private Object[] fromMessage(Message message, Class<?>[] types) {
+        if (RawBody.isRaw(message) && RawBody.supports(types)) {
+            return new Object[]{RawBody.fromMessage(message, types[0])};
+        }
+        if (converter instanceof SignatureAwareMessageConverter signatureAwareConverter) {
+            return signatureAwareConverter.fromMessage(message, types);
         }
+        return (Object[]) converter.fromMessage(message);
     }
 
-    private Object getResponse(Class<?> returnType, Object result) {
-        Object payload;
-        if (returnType.equals(Void.TYPE)) {
-            payload = new VoidRabbitResponse();
+    private Message getResponse(Class<?> iClazz, Class<?> returnType, Object result, MessageProperties request) {
+        String contentType = request.getContentType();
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        properties.setHeader(TYPE_ID_HEADER, returnType.getCanonicalName());
+        Message response;
+        if (RawBody.supports(returnType) && result != null && RawBody.isAccepted(request)) {
+            response = RawBody.toMessage(result, properties);
+        } else if (!returnType.equals(Void.TYPE)
+                // Only clients sending envelopes can decode an envelope reply
+                && request.getHeader(ENVELOPE_HEADER) != null
+                && converter instanceof SignatureAwareMessageConverter signatureAwareConverter
+                && signatureAwareConverter.isSignatureAware(contentType)) {
+            // Write the return value against the declared return type
+            response = signatureAwareConverter.toMessage(new Object[]{result}, new Class<?>[]{returnType}, properties);
         } else {
-            payload = Objects.requireNonNullElseGet(result, NullResponse::new);
+            Object payload;
+            if (returnType.equals(Void.TYPE)) {
+                payload = new VoidRabbitResponse();
+            } else {
+                payload = Objects.requireNonNullElseGet(result, NullResponse::new);
+            }
+            response = converter.toMessage(payload, properties);
         }
-        return MessageBuilder.withPayload(payload)
-                .setHeader(TYPE_ID_HEADER, returnType.getCanonicalName())
-                .build();
+        return claimCheckRegistry.checkIn(iClazz, compressionRegistry.compress(iClazz, response));
     }
 }
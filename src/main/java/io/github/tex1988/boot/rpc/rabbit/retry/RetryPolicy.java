@@ -0,0 +1,146 @@
+package io.github.tex1988.boot.rpc.rabbit.retry;
+
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.ClaimCheckRegistry;
+import io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry;
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.List;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RETRY_COUNT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RETRY_ERROR_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SENT_AT_HEADER;
+
+/**
+ * Retries the failed requests of a queue with delayed tiers instead of redelivering them at once.
+ * <p>
+ * Each tier is a delay queue without consumers, declared with the tier delay as {@code x-message-ttl} and the
+ * queue as its dead-letter target, so an expired request returns to the queue through the default exchange.
+ * The attempts are counted in the {@value io.github.tex1988.boot.rpc.rabbit.constant.Constants#RETRY_COUNT_HEADER}
+ * header, and requests failing after the last tier are parked in the parking queue for inspection.
+ * </p>
+ * <p>
+ * Received requests are already checked out and decompressed, so a copy is compressed and claim-checked again
+ * with the settings of its interface before it is republished. Requests whose deadline would pass before their
+ * next attempt are not retried, as nobody waits for their reply anymore.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public class RetryPolicy {
+
+    private static final String RETRY_QUEUE_SUFFIX = ".retry.";
+    private static final String PARKING_QUEUE_SUFFIX = ".parking";
+
+    private final String queueName;
+    private final List<Long> delays;
+    private final RabbitTemplate rabbitTemplate;
+    private final CompressionRegistry compressionRegistry;
+    private final ClaimCheckRegistry claimCheckRegistry;
+    private final RabbitRpcMetrics metrics;
+
+    /**
+     * @param queueName           the name of the queue the failed requests are consumed from
+     * @param delays              the delays of the retry tiers in milliseconds, retries are disabled if empty
+     * @param rabbitTemplate      publishes the failed requests to the delay and parking queues
+     * @param compressionRegistry compresses the republished requests
+     * @param claimCheckRegistry  offloads the bodies of the republished requests
+     * @param metrics             records the retried and parked requests
+     */
+    public RetryPolicy(String queueName, List<Long> delays, RabbitTemplate rabbitTemplate,
+                       CompressionRegistry compressionRegistry, ClaimCheckRegistry claimCheckRegistry,
+                       RabbitRpcMetrics metrics) {
+        this.queueName = queueName;
+        this.delays = delays;
+        this.rabbitTemplate = rabbitTemplate;
+        this.compressionRegistry = compressionRegistry;
+        this.claimCheckRegistry = claimCheckRegistry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the name of the delay queue of a retry tier
+     */
+    public static String getDelayQueueName(String queueName, int tier) {
+        return queueName + RETRY_QUEUE_SUFFIX + tier;
+    }
+
+    /**
+     * @return the name of the queue parking the requests which failed all retry tiers
+     */
+    public static String getParkingQueueName(String queueName) {
+        return queueName + PARKING_QUEUE_SUFFIX;
+    }
+
+    /**
+     * Publishes a failed request to the delay queue of its next tier, or parks it after the last tier.
+     *
+     * @param iClazz  the Rabbit RPC interface of the request
+     * @param message the failed request, as received from the queue
+     * @param e       the failure
+     * @return {@code true} if the request is retried later, {@code false} if the failure must be handled now
+     */
+    public boolean retry(Class<?> iClazz, Message message, Throwable e) {
+        if (delays.isEmpty() || !isRetryable(e)) {
+            return false;
+        }
+        Message copy = MessageBuilder.fromClonedMessage(message).build();
+        MessageProperties properties = copy.getMessageProperties();
+        Object retryCount = properties.getHeader(RETRY_COUNT_HEADER);
+        int attempt = retryCount instanceof Number number ? number.intValue() : 0;
+        // Republish as persistent as the request was sent
+        properties.setDeliveryMode(properties.getReceivedDeliveryMode());
+        if (attempt < delays.size()) {
+            long retryAt = System.currentTimeMillis() + delays.get(attempt);
+            Object deadline = properties.getHeader(DEADLINE_HEADER);
+            if (deadline instanceof Number number && retryAt >= number.longValue()) {
+                metrics.recordRetry(queueName, "expired");
+                log.debug("Not retrying request {} of queue {}, its deadline passes before the next attempt",
+                        properties.getCorrelationId(), queueName);
+                return false;
+            }
+            properties.setHeader(RETRY_COUNT_HEADER, attempt + 1);
+            // The queue wait of the next attempt starts when its delay expires
+            properties.setHeader(SENT_AT_HEADER, retryAt);
+            rabbitTemplate.send("", getDelayQueueName(queueName, attempt), encode(iClazz, copy));
+            metrics.recordRetry(queueName, "retried");
+            log.debug("Retrying request {} of queue {} in {} ms", properties.getCorrelationId(), queueName,
+                    delays.get(attempt));
+            return true;
+        }
+        properties.setHeader(RETRY_ERROR_HEADER, String.valueOf(e.getMessage()));
+        rabbitTemplate.send("", getParkingQueueName(queueName), encode(iClazz, copy));
+        metrics.recordRetry(queueName, "parked");
+        log.warn("Parked request {} of queue {} after {} retries", properties.getCorrelationId(), queueName, attempt, e);
+        return false;
+    }
+
+    /**
+     * Compresses and claim-checks a request again, as the client sent it.
+     */
+    private Message encode(Class<?> iClazz, Message message) {
+        return claimCheckRegistry.checkIn(iClazz, compressionRegistry.compress(iClazz, message));
+    }
+
+    /**
+     * Only unexpected failures are retried. Rejected and undecodable requests fail the same way again.
+     */
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof MessageConversionException) {
+            return false;
+        }
+        return !(e instanceof RabbitRpcServiceException serviceException)
+                || serviceException.getStatusCode() == null
+                || serviceException.getStatusCode() == ErrorStatusCode.INTERNAL_SERVER_ERROR.getCode();
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.tex1988.boot.rpc.rabbit.routing;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.PartitionKey;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Derives the queues and routing keys of the partitions of an interface with {@link RabbitRpcInterface#partitions()}.
+ * <p>
+ * Partition {@code i} of a queue {@code q} with routing key {@code r} is the queue {@code q.i} bound with the
+ * routing key {@code r.i}. The partition of a {@link PartitionKey} is the FNV-1a hash of its string form modulo
+ * the number of partitions, so all clients route a key to the same partition.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public final class PartitionRouting {
+
+    private PartitionRouting() {
+    }
+
+    /**
+     * @param queue     the queue of the interface
+     * @param partition the partition
+     * @return the queue of the partition
+     */
+    public static String getQueueName(String queue, int partition) {
+        return queue + "." + partition;
+    }
+
+    /**
+     * @param routing   the routing key of the interface
+     * @param partition the partition
+     * @return the routing key of the partition
+     */
+    public static String getRoutingKey(String routing, int partition) {
+        return routing + "." + partition;
+    }
+
+    /**
+     * @param key        the partition key
+     * @param partitions the number of partitions
+     * @return the partition of the key
+     */
+    public static int getPartition(Object key, int partitions) {
+        return Math.floorMod(RouteRegistry.hash(String.valueOf(key)), partitions);
+    }
+
+    /**
+     * Returns the index of the {@link PartitionKey} parameter of a method.
+     *
+     * @param method the method
+     * @return the parameter index, or {@code -1} if the method has no partition key
+     * @throws IllegalStateException if more than one parameter is a partition key
+     */
+    public static int getPartitionKeyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        int index = -1;
+        for (int i = 0; i < annotations.length; i++) {
+            if (Arrays.stream(annotations[i]).anyMatch(PartitionKey.class::isInstance)) {
+                if (index >= 0) {
+                    throw new IllegalStateException("Method " + method.getName() + " of "
+                            + method.getDeclaringClass().getName() + " has more than one partition key");
+                }
+                index = i;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.tex1988.boot.rpc.rabbit.routing;
+
+import io.github.tex1988.boot.rpc.rabbit.util.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
+
+/**
+ * Resolves the compact routing header {@value ROUTE_HEADER} of a request to the target method.
+ * <p>
+ * A route id is a {@code long} holding the interface id in the upper and the method id in the lower 32 bits.
+ * Both ids are FNV-1a hashes of the interface canonical name and of the method signature, so client and server
+ * derive the same ids independently, and adding methods does not change the ids of existing ones.
+ * Collisions between the routes of a server are detected when the registry is created.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class RouteRegistry {
+
+    private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private final Map<Long, Route> routes = new HashMap<>();
+
+    /**
+     * @param methodHandles the method handles of the served interfaces
+     * @throws IllegalStateException if two methods have the same route id
+     */
+    public RouteRegistry(Map<Class<?>, Map<Method, MethodHandle>> methodHandles) {
+        methodHandles.forEach((iClazz, handles) -> handles.forEach((method, methodHandle) -> {
+            long routeId = getRouteId(iClazz, method);
+            Route existing = routes.putIfAbsent(routeId, new Route(iClazz, method, methodHandle));
+            if (existing != null && !existing.method().equals(method)) {
+                throw new IllegalStateException("Route id collision between " + existing.method() + " and " + method);
+            }
+        }));
+    }
+
+    /**
+     * Returns the route id of a method of a Rabbit RPC interface.
+     *
+     * @param iClazz the Rabbit RPC interface
+     * @param method the method
+     * @return the route id
+     */
+    public static long getRouteId(Class<?> iClazz, Method method) {
+        return ((long) hash(iClazz.getCanonicalName()) << 32) | (hash(Utils.getMethodSignature(method)) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the route of a route id.
+     *
+     * @param routeId the route id
+     * @return the route, or {@code null} if no served method has this id
+     */
+    public Route getRoute(long routeId) {
+        return routes.get(routeId);
+    }
+
+    static int hash(String value) {
+        int hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The target of a route.
+     *
+     * @param iClazz       the Rabbit RPC interface
+     * @param method       the interface method
+     * @param methodHandle the handle invoking the implementation
+     */
+    public record Route(Class<?> iClazz, Method method, MethodHandle methodHandle) {
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.tex1988.boot.rpc.rabbit.scaling;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.DirectMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the consumers and the prefetch of the listener containers of queues with
+ * {@link RabbitRpcInterface#autoscale()} bounds.
+ * <p>
+ * Every interval the queue depth is read with {@link AmqpAdmin#getQueueInfo(String)} and the requests handled
+ * since the last sample are read from the {@link ConsumerLoad} of the queue. The arrival rate is the number of
+ * handled requests plus the growth of the queue, and by Little's law the number of busy consumers is the arrival
+ * rate times the mean handling time. While a backlog does not shrink, consumers are added one at a time, or up to
+ * the busy consumers at once; once the queue is drained, surplus consumers are removed multiplicatively, never
+ * below the busy consumers. The prefetch is sized so that each consumer buffers about
+ * {@value #PREFETCH_WINDOW_MILLIS} ms of work, up to the configured prefetch, and applies to consumers started
+ * after the change.
+ * </p>
+ * <p>
+ * Decisions are recorded by {@link RabbitRpcMetrics#recordScalingDecision(String, String)}, and the current
+ * consumers and prefetch of every queue are registered by {@link RabbitRpcMetrics#registerAutoscaling}.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ConsumerAutoscaler {
+
+    public static final long DEFAULT_INTERVAL = 5000L;
+
+    static final long PREFETCH_WINDOW_MILLIS = 10L;
+    static final double DECREASE_FACTOR = 0.75;
+
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitRpcMetrics metrics;
+    private final long interval;
+    private final List<ScaledQueue> queues = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    public ConsumerAutoscaler(AmqpAdmin amqpAdmin, RabbitRpcMetrics metrics, long interval) {
+        this.amqpAdmin = amqpAdmin;
+        this.metrics = metrics;
+        this.interval = interval;
+    }
+
+    /**
+     * Registers the listener container of a queue and sets its consumers to the lower bound.
+     *
+     * @param queue        the queue name
+     * @param container    the listener container of the queue
+     * @param load         the load of the handler of the queue
+     * @param minConsumers the lower bound of the consumers
+     * @param maxConsumers the upper bound of the consumers
+     * @param maxPrefetch  the upper bound of the prefetch
+     */
+    public void register(String queue, AbstractMessageListenerContainer container, ConsumerLoad load,
+                         int minConsumers, int maxConsumers, int maxPrefetch) {
+        if (minConsumers < 1 || maxConsumers < minConsumers) {
+            throw new IllegalStateException("Invalid autoscale bounds of queue " + queue + ": "
+                    + minConsumers + "-" + maxConsumers);
+        }
+        ScaledQueue scaledQueue = new ScaledQueue(queue, container, load, minConsumers, maxConsumers, maxPrefetch);
+        scaledQueue.apply(minConsumers, maxPrefetch);
+        queues.add(scaledQueue);
+        metrics.registerAutoscaling(queue, () -> scaledQueue.consumers, () -> scaledQueue.prefetch);
+    }
+
+    /**
+     * Starts sampling the registered queues, if any.
+     */
+    public synchronized void start() {
+        if (scheduler != null || queues.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rabbit-rpc-autoscaler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scale, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling the registered queues.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void scale() {
+        for (ScaledQueue queue : queues) {
+            try {
+                queue.scale();
+            } catch (RuntimeException e) {
+                log.warn("Failed to autoscale consumers of queue {}: {}", queue.name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Computes the next number of consumers of a queue.
+     *
+     * @param consumers          the current number of consumers
+     * @param depth              the current number of ready messages
+     * @param previousDepth      the number of ready messages at the previous sample
+     * @param arrivalRate        the number of requests arriving per second
+     * @param meanServiceNanos   the mean handling time of a request, in nanoseconds
+     * @param minConsumers       the lower bound of the consumers
+     * @param maxConsumers       the upper bound of the consumers
+     * @return the next number of consumers
+     */
+    static int nextConsumers(int consumers, long depth, long previousDepth, double arrivalRate,
+                             double meanServiceNanos, int minConsumers, int maxConsumers) {
+        int busy = (int) Math.min(Integer.MAX_VALUE, Math.ceil(arrivalRate * meanServiceNanos / 1e9));
+        int next;
+        if (depth > 0 && depth >= previousDepth) {
+            next = Math.max(busy, consumers + 1);
+        } else if (depth == 0 && busy < consumers) {
+            next = Math.max(busy, (int) (consumers * DECREASE_FACTOR));
+        } else {
+            next = consumers;
+        }
+        return Math.max(minConsumers, Math.min(maxConsumers, next));
+    }
+
+    /**
+     * Computes the prefetch buffering about {@value #PREFETCH_WINDOW_MILLIS} ms of work per consumer.
+     *
+     * @param meanServiceNanos the mean handling time of a request, in nanoseconds
+     * @param maxPrefetch      the upper bound of the prefetch
+     * @return the next prefetch
+     */
+    static int nextPrefetch(double meanServiceNanos, int maxPrefetch) {
+        double prefetch = TimeUnit.MILLISECONDS.toNanos(PREFETCH_WINDOW_MILLIS) / Math.max(1.0, meanServiceNanos);
+        return (int) Math.max(1, Math.min(maxPrefetch, Math.round(prefetch)));
+    }
+
+    private class ScaledQueue {
+
+        private final String name;
+        private final AbstractMessageListenerContainer container;
+        private final ConsumerLoad load;
+        private final int minConsumers;
+        private final int maxConsumers;
+        private final int maxPrefetch;
+        private volatile int consumers;
+        private volatile int prefetch;
+        private long previousDepth;
+        private long previousCount;
+        private long previousNanos;
+        private long previousTime = System.nanoTime();
+
+        private ScaledQueue(String name, AbstractMessageListenerContainer container, ConsumerLoad load,
+                            int minConsumers, int maxConsumers, int maxPrefetch) {
+            this.name = name;
+            this.container = container;
+            this.load = load;
+            this.minConsumers = minConsumers;
+            this.maxConsumers = maxConsumers;
+            this.maxPrefetch = maxPrefetch;
+        }
+
+        private void scale() {
+            QueueInformation queueInfo = amqpAdmin.getQueueInfo(name);
+            if (queueInfo == null) {
+                return;
+            }
+            long depth = queueInfo.getMessageCount();
+            long count = load.getCount();
+            long nanos = load.getNanos();
+            long time = System.nanoTime();
+            long handled = count - previousCount;
+            double seconds = Math.max(1, time - previousTime) / 1e9;
+            double arrivalRate = Math.max(0, handled + depth - previousDepth) / seconds;
+            double meanServiceNanos = handled > 0 ? (double) (nanos - previousNanos) / handled : 0;
+
+            int nextConsumers = nextConsumers(consumers, depth, previousDepth, arrivalRate, meanServiceNanos,
+                    minConsumers, maxConsumers);
+            int nextPrefetch = handled > 0 ? nextPrefetch(meanServiceNanos, maxPrefetch) : prefetch;
+            String action = nextConsumers > consumers ? "increase" : nextConsumers < consumers ? "decrease" : "hold";
+            if (nextConsumers != consumers || nextPrefetch != prefetch) {
+                log.debug("Autoscaling queue {}: depth {}, arrival rate {}/s, mean handling time {} ns, "
+                                + "consumers {} -> {}, prefetch {} -> {}", name, depth, arrivalRate, meanServiceNanos,
+                        consumers, nextConsumers, prefetch, nextPrefetch);
+                apply(nextConsumers, nextPrefetch);
+            }
+            metrics.recordScalingDecision(name, action);
+
+            previousDepth = depth;
+            previousCount = count;
+            previousNanos = nanos;
+            previousTime = time;
+        }
+
+        private void apply(int nextConsumers, int nextPrefetch) {
+            container.setPrefetchCount(nextPrefetch);
+            if (container instanceof SimpleMessageListenerContainer simpleContainer) {
+                // The bounds are lifted first, as the container may start with any concurrency;
+                // equal bounds then disable the built-in scaling of the container
+                simpleContainer.setMaxConcurrentConsumers(Integer.MAX_VALUE);
+                simpleContainer.setConcurrentConsumers(nextConsumers);
+                simpleContainer.setMaxConcurrentConsumers(nextConsumers);
+            } else if (container instanceof DirectMessageListenerContainer directContainer) {
+                directContainer.setConsumersPerQueue(nextConsumers);
+            }
+            consumers = nextConsumers;
+            prefetch = nextPrefetch;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.tex1988.boot.rpc.rabbit.scaling;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the number and the execution time of the requests handled from a queue,
+ * sampled by the {@link ConsumerAutoscaler}.
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class ConsumerLoad {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * Records a handled request.
+     *
+     * @param nanos the time spent handling the request, in nanoseconds
+     */
+    public void record(long nanos) {
+        this.count.increment();
+        this.nanos.add(nanos);
+    }
+
+    /**
+     * @return the number of requests handled so far
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the total time spent handling requests so far, in nanoseconds
+     */
+    public long getNanos() {
+        return nanos.sum();
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.tex1988.boot.rpc.rabbit.stream;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_CONTROL_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_CREDIT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_END_HEADER;
+
+/**
+ * Lazily consumes the chunks of one stream from an exclusive queue.
+ * <p>
+ * At most {@code credit} chunks are in flight: a new credit is granted for every half of the window consumed,
+ * so memory use is bounded by the chunk size, not by the size of the stream. Credits carry the name of the
+ * chunk queue, so a publisher can learn where to send chunks from the first credit. Closing the iterator
+ * before the last chunk cancels the stream on the publisher side. A message that is not a chunk
+ * (e.g. an error reply) ends the stream and is passed to the reply decoder, which is expected to throw.
+ * </p>
+ * <p>
+ * The channel and queue of the stream are released when the iterator is exhausted or closed. An iterator that is
+ * dropped before either, e.g. a result stream that is never consumed, is closed once it is garbage collected,
+ * so its channel is held until then.
+ * </p>
+ *
+ * @param <T> the element type
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class ChunkIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final MessagePropertiesConverter PROPERTIES_CONVERTER = new DefaultMessagePropertiesConverter();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Subscription subscription;
+    private final Cleaner.Cleanable cleanable;
+    private final int credit;
+    private final long timeout;
+    private final Function<Message, Object[]> chunkDecoder;
+    private final Function<Message, Object> replyDecoder;
+    private final BlockingQueue<Message> chunks = new LinkedBlockingQueue<>();
+
+    private Iterator<Object> current = Collections.emptyIterator();
+    private int consumed;
+    private boolean closed;
+
+    ChunkIterator(Channel channel, int credit, long timeout,
+                  Function<Message, Object[]> chunkDecoder, Function<Message, Object> replyDecoder) throws IOException {
+        this.credit = credit;
+        this.timeout = timeout;
+        this.chunkDecoder = chunkDecoder;
+        this.replyDecoder = replyDecoder;
+        String queue = channel.queueDeclare().getQueue();
+        String consumerTag = channel.basicConsume(queue, true, createConsumer(channel, chunks));
+        this.subscription = new Subscription(channel, queue, consumerTag);
+        this.cleanable = CLEANER.register(this, subscription);
+    }
+
+    /**
+     * Creates the consumer outside the iterator, so the channel does not keep a dropped iterator reachable.
+     */
+    private static DefaultConsumer createConsumer(Channel channel, BlockingQueue<Message> chunks) {
+        return new DefaultConsumer(channel) {
+
+            @Override
+            public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties,
+                                       byte[] body) {
+                MessageProperties messageProperties = PROPERTIES_CONVERTER
+                        .toMessageProperties(properties, envelope, StandardCharsets.UTF_8.name());
+                chunks.add(new Message(body, messageProperties));
+            }
+        };
+    }
+
+    /**
+     * Returns the name of the queue the chunks are published to, to be used as the reply address of the request.
+     *
+     * @return the reply queue name
+     */
+    String getQueue() {
+        return subscription.queue;
+    }
+
+    /**
+     * Grants the initial credit to a publisher that is not sending chunks yet.
+     *
+     * @param controlQueue the control queue of the publisher
+     */
+    void open(String controlQueue) {
+        subscription.controlQueue = controlQueue;
+        subscription.sendCredit(credit);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (subscription.ended || closed) {
+                close();
+                return false;
+            }
+            fetch();
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return (T) current.next();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cleanable.clean();
+    }
+
+    private void fetch() {
+        Message chunk;
+        try {
+            chunk = chunks.poll(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while waiting for a stream chunk", e);
+        }
+        if (chunk == null) {
+            close();
+            throw new IllegalStateException("No stream chunk within " + timeout + " ms");
+        }
+        Map<String, Object> headers = chunk.getMessageProperties().getHeaders();
+        String controlQueue = (String) headers.get(STREAM_CONTROL_HEADER);
+        subscription.controlQueue = controlQueue;
+        if (controlQueue == null) {
+            subscription.ended = true;
+            close();
+            replyDecoder.apply(chunk);
+            return;
+        }
+        boolean ended = Boolean.TRUE.equals(headers.get(STREAM_END_HEADER));
+        subscription.ended = ended;
+        try {
+            current = Arrays.asList(chunkDecoder.apply(chunk)).iterator();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (!ended && ++consumed >= Math.max(1, credit / 2)) {
+            subscription.sendCredit(consumed);
+            consumed = 0;
+        }
+    }
+
+    /**
+     * The broker resources of a stream. Released by {@link #close()}, or by the cleaner once the iterator
+     * is unreachable, so it must not reference the iterator.
+     */
+    private static final class Subscription implements Runnable {
+
+        private final Channel channel;
+        private final String queue;
+        private final String consumerTag;
+        private volatile String controlQueue;
+        private volatile boolean ended;
+
+        private Subscription(Channel channel, String queue, String consumerTag) {
+            this.channel = channel;
+            this.queue = queue;
+            this.consumerTag = consumerTag;
+        }
+
+        private void sendCredit(int permits) {
+            AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                    .headers(Map.of(STREAM_CREDIT_HEADER, permits, STREAM_CONTROL_HEADER, queue))
+                    .build();
+            try {
+                channel.basicPublish("", controlQueue, properties, new byte[0]);
+            } catch (IOException e) {
+                throw new AmqpException("Failed to send stream credit", e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!ended && controlQueue != null) {
+                    sendCredit(0);
+                }
+                channel.basicCancel(consumerTag);
+                channel.close();
+            } catch (Exception e) {
+                log.warn("Failed to close stream queue {}", queue, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.tex1988.boot.rpc.rabbit.stream;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_CONTROL_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_CREDIT_HEADER;
+
+/**
+ * Publishes the chunks of one stream, one chunk per credit granted by the consumer.
+ * <p>
+ * The consumer grants credits by sending messages with the {@value STREAM_CREDIT_HEADER} header to a
+ * server-named control queue, which is sent with every chunk in the {@value STREAM_CONTROL_HEADER} header.
+ * A credit of {@code 0} cancels the stream. If the target queue is not known upfront, it is taken from the
+ * {@value STREAM_CONTROL_HEADER} header of the first credit. Any other message received on the control queue
+ * is the reply of the call and ends the stream. The control queue is deleted when the publisher is closed.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+final class ChunkPublisher implements AutoCloseable {
+
+    private static final MessagePropertiesConverter PROPERTIES_CONVERTER = new DefaultMessagePropertiesConverter();
+
+    private final Channel channel;
+    private final String controlQueue;
+    private final String consumerTag;
+    private final long timeout;
+    private final Semaphore credits;
+    private final CountDownLatch replied = new CountDownLatch(1);
+    private volatile String target;
+    private volatile boolean cancelled;
+    private volatile Message reply;
+
+    ChunkPublisher(Channel channel, String target, int credit, long timeout) throws IOException {
+        this.channel = channel;
+        this.target = target;
+        this.timeout = timeout;
+        this.credits = new Semaphore(credit);
+        this.controlQueue = channel.queueDeclare().getQueue();
+        this.consumerTag = channel.basicConsume(controlQueue, true, new DefaultConsumer(channel) {
+
+            @Override
+            public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties,
+                                       byte[] body) {
+                Map<String, Object> headers = properties.getHeaders();
+                Object credit = headers != null ? headers.get(STREAM_CREDIT_HEADER) : null;
+                if (credit == null) {
+                    reply = new Message(body, PROPERTIES_CONVERTER
+                            .toMessageProperties(properties, envelope, StandardCharsets.UTF_8.name()));
+                    replied.countDown();
+                    credits.release();
+                    return;
+                }
+                Object control = headers.get(STREAM_CONTROL_HEADER);
+                if (control != null) {
+                    ChunkPublisher.this.target = control.toString();
+                }
+                int permits = ((Number) credit).intValue();
+                if (permits > 0) {
+                    credits.release(permits);
+                } else {
+                    cancelled = true;
+                    credits.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the queue credits and the reply are expected on.
+     *
+     * @return the control queue name
+     */
+    String getControlQueue() {
+        return controlQueue;
+    }
+
+    /**
+     * Publishes a chunk as soon as a credit is available.
+     *
+     * @param chunk the chunk to publish
+     * @return {@code true} if the chunk was published, {@code false} if the consumer cancelled the stream
+     * or the reply was received
+     * @throws AmqpTimeoutException if no credit was granted within the timeout
+     */
+    boolean publish(Message chunk) throws IOException, InterruptedException {
+        if (!credits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new AmqpTimeoutException("No credit from the stream consumer within " + timeout + " ms");
+        }
+        if (cancelled || reply != null) {
+            return false;
+        }
+        chunk.getMessageProperties().setHeader(STREAM_CONTROL_HEADER, controlQueue);
+        AMQP.BasicProperties properties = PROPERTIES_CONVERTER
+                .fromMessageProperties(chunk.getMessageProperties(), StandardCharsets.UTF_8.name());
+        channel.basicPublish("", target, properties, chunk.getBody());
+        return true;
+    }
+
+    /**
+     * Tells the consumer that the stream failed, if it has already granted credits.
+     */
+    void abort() throws IOException {
+        if (target != null && !cancelled && reply == null) {
+            channel.basicPublish("", target, new AMQP.BasicProperties(), new byte[0]);
+        }
+    }
+
+    /**
+     * Waits for the reply of the call.
+     *
+     * @param replyTimeout the maximum time to wait, in milliseconds
+     * @return the reply, or {@code null} if none was received within the timeout
+     */
+    Message awaitReply(long replyTimeout) throws InterruptedException {
+        return replied.await(replyTimeout, TimeUnit.MILLISECONDS) ? reply : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.basicCancel(consumerTag);
+            channel.close();
+        } catch (TimeoutException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.tex1988.boot.rpc.rabbit.stream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Isolates Reactor types, so they are only loaded when Reactor is on the classpath.
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReactorStreams {
+
+    static boolean isPublisher(Class<?> type) {
+        return Flux.class.equals(type) || Publisher.class.equals(type);
+    }
+
+    static Stream<?> toStream(Object publisher, int batchSize) {
+        return Flux.from((Publisher<?>) publisher).toStream(batchSize);
+    }
+
+    /**
+     * Creates a cold {@link Flux} that opens a stream per subscription.
+     * Chunks are awaited on the bounded elastic scheduler, so subscribers are never blocked.
+     */
+    static Flux<?> fromStream(Supplier<Stream<?>> stream) {
+        return Flux.fromStream(stream).subscribeOn(Schedulers.boundedElastic());
+    }
+}
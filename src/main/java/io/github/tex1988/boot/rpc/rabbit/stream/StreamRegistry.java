@@ -0,0 +1,337 @@
+package io.github.tex1988.boot.rpc.rabbit.stream;
+
+import com.rabbitmq.client.Channel;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.compression.CompressionRegistry;
+import io.github.tex1988.boot.rpc.rabbit.rabbit.RabbitRpcBeanExpressionResolver;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_CREDIT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_END_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.STREAM_UPLOAD_HEADER;
+
+/**
+ * Streams results and arguments of type {@link Stream}, {@link Iterator}, {@code Flux} or {@code Publisher}
+ * in chunks.
+ * <p>
+ * The consumer of a stream consumes chunks from an exclusive queue declared per call and grants the publisher
+ * credits for at most {@link RabbitRpcInterface#streamCredit()} chunks in flight. The publisher pulls elements
+ * lazily and publishes them in chunks of {@link RabbitRpcInterface#streamChunkSize()} elements, so neither side
+ * holds the whole stream in memory. Chunks are encoded with the codec of the request and compressed according
+ * to the settings of the interface.
+ * </p>
+ * <ul>
+ *     <li>Streamed results: the client sends its chunk queue as the reply address of the request
+ *     with the initial credit in the {@value STREAM_CREDIT_HEADER} header.</li>
+ *     <li>Streamed arguments: the client sends the request with the index of the streamed parameter in the
+ *     {@value STREAM_UPLOAD_HEADER} header. The server invokes the method with a stream filled from its own
+ *     chunk queue, grants credits to the reply address of the request and replies once the method returns.</li>
+ * </ul>
+ * <p>
+ * Publishers wait for credits, and consumers for chunks, at most the reply timeout of the client, so a consumer
+ * must request the next elements within the reply timeout.
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+public class StreamRegistry {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    public static final int DEFAULT_CREDIT = 4;
+
+    private static final long DEFAULT_TIMEOUT = 60_000L;
+    private static final String FLUX_CLASS = "reactor.core.publisher.Flux";
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent(FLUX_CLASS, StreamRegistry.class.getClassLoader());
+
+    private final RabbitRpcBeanExpressionResolver expressionResolver;
+    private final MessageConverter converter;
+    private final CompressionRegistry compressionRegistry;
+    private final Map<Class<?>, StreamSettings> settings = new ConcurrentHashMap<>();
+
+    public StreamRegistry(RabbitRpcBeanExpressionResolver expressionResolver, MessageConverter converter,
+                          CompressionRegistry compressionRegistry) {
+        this.expressionResolver = expressionResolver;
+        this.converter = converter;
+        this.compressionRegistry = compressionRegistry;
+    }
+
+    /**
+     * Checks whether values of the given type are streamed.
+     *
+     * @param type the return or parameter type of a method
+     * @return {@code true} for {@link Stream}, {@link Iterator}, {@code Flux} and {@code Publisher}
+     */
+    public static boolean isStreaming(Class<?> type) {
+        return type.equals(Stream.class) || type.equals(Iterator.class)
+                || (REACTOR_PRESENT && ReactorStreams.isPublisher(type));
+    }
+
+    /**
+     * Returns the index of the streamed parameter of a method.
+     *
+     * @param method the method
+     * @return the index of the first streamed parameter, or {@code -1} if there is none
+     */
+    public static int getStreamingParameter(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (isStreaming(parameterTypes[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resolves the streaming settings of an interface.
+     *
+     * @param iClazz the Rabbit RPC interface
+     */
+    public void register(Class<?> iClazz) {
+        settings.computeIfAbsent(iClazz, this::resolveSettings);
+    }
+
+    /**
+     * Sends a request of a method with a streamed result and returns the result as the declared return type.
+     * {@code Flux} results send the request per subscription, other results send it immediately.
+     *
+     * @param iClazz       the Rabbit RPC interface
+     * @param returnType   the declared return type
+     * @param template     the template to send the request with
+     * @param exchange     the exchange of the interface
+     * @param routing      the routing key of the interface
+     * @param request      the encoded request
+     * @param timeout      the maximum time to wait for each chunk, in milliseconds
+     * @param replyDecoder decodes a reply that is not a chunk, e.g. throws on an error reply
+     * @return the lazily consumed result, holding its chunk queue until it is exhausted or closed
+     */
+    public Object call(Class<?> iClazz, Class<?> returnType, RabbitTemplate template, String exchange, String routing,
+                       Message request, long timeout, Function<Message, Object> replyDecoder) {
+        if (REACTOR_PRESENT && ReactorStreams.isPublisher(returnType)) {
+            return ReactorStreams.fromStream(() -> toStream(call(iClazz, template, exchange, routing,
+                    MessageBuilder.fromClonedMessage(request).build(), timeout, replyDecoder)));
+        }
+        ChunkIterator<Object> iterator = call(iClazz, template, exchange, routing, request, timeout, replyDecoder);
+        return returnType.equals(Iterator.class) ? iterator : toStream(iterator);
+    }
+
+    /**
+     * Sends a request of a method with a streamed argument, publishes the argument in chunks as the server grants
+     * credits and waits for the reply.
+     *
+     * @param iClazz       the Rabbit RPC interface
+     * @param template     the template to send the request with
+     * @param exchange     the exchange of the interface
+     * @param routing      the routing key of the interface
+     * @param request      the encoded request, without the streamed argument
+     * @param index        the index of the streamed parameter
+     * @param argument     the streamed argument
+     * @param timeout      the maximum time to wait for credits and the reply, in milliseconds
+     * @param awaitReply   whether to wait for a reply, {@code false} for fire-and-forget methods
+     * @param replyDecoder decodes the reply, or {@code null} if none was received within the timeout
+     * @return the decoded reply, or {@code null} if no reply is awaited
+     */
+    public Object upload(Class<?> iClazz, RabbitTemplate template, String exchange, String routing, Message request,
+                         int index, Object argument, long timeout, boolean awaitReply,
+                         Function<Message, Object> replyDecoder) {
+        StreamSettings streamSettings = settings.computeIfAbsent(iClazz, this::resolveSettings);
+        MessageProperties properties = request.getMessageProperties();
+        Channel channel = template.getConnectionFactory().createConnection().createChannel(false);
+        try (Stream<?> stream = toStream(argument, streamSettings.chunkSize());
+             ChunkPublisher publisher = new ChunkPublisher(channel, null, 0, timeout)) {
+            properties.setReplyTo(publisher.getControlQueue());
+            properties.setHeader(STREAM_UPLOAD_HEADER, index);
+            template.send(exchange, routing, request);
+            try {
+                publishChunks(iClazz, publisher, stream, streamSettings.chunkSize(), properties.getContentType());
+            } catch (RuntimeException e) {
+                publisher.abort();
+                throw e;
+            }
+            return awaitReply ? replyDecoder.apply(publisher.awaitReply(timeout)) : null;
+        } catch (IOException e) {
+            throw new AmqpException("Failed to stream argument of " + iClazz.getName(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while streaming argument of " + iClazz.getName(), e);
+        }
+    }
+
+    /**
+     * Publishes a streamed result in chunks to the reply queue of the request, as long as the client grants credits.
+     * The result is closed when all elements are published or the client cancels the stream.
+     *
+     * @param iClazz  the Rabbit RPC interface
+     * @param channel the channel the request was received on
+     * @param request the properties of the request
+     * @param result  the result of the method
+     * @throws IllegalStateException if the request was not sent by a streaming client
+     */
+    public void publish(Class<?> iClazz, Channel channel, MessageProperties request, Object result)
+            throws IOException, InterruptedException {
+        Object credit = request.getHeader(STREAM_CREDIT_HEADER);
+        if (credit == null || request.getReplyTo() == null) {
+            throw new IllegalStateException("Streaming result of " + iClazz.getName() + " requires a streaming client");
+        }
+        StreamSettings streamSettings = settings.computeIfAbsent(iClazz, this::resolveSettings);
+        try (Stream<?> stream = toStream(result, streamSettings.chunkSize());
+             ChunkPublisher publisher = new ChunkPublisher(channel.getConnection().createChannel(),
+                     request.getReplyTo(), ((Number) credit).intValue(), getTimeout(request))) {
+            publishChunks(iClazz, publisher, stream, streamSettings.chunkSize(), request.getContentType());
+        }
+    }
+
+    /**
+     * Opens the chunk queue of a streamed argument and grants the client the initial credit.
+     * The returned iterator must be closed once the method returns, which cancels the rest of the stream.
+     *
+     * @param iClazz  the Rabbit RPC interface
+     * @param channel the channel the request was received on
+     * @param request the properties of the request
+     * @return the iterator over the elements of the argument
+     * @throws IllegalStateException if the request has no reply address
+     */
+    public ChunkIterator<Object> receive(Class<?> iClazz, Channel channel, MessageProperties request)
+            throws IOException {
+        if (request.getReplyTo() == null) {
+            throw new IllegalStateException("Streamed argument of " + iClazz.getName() + " requires a reply address");
+        }
+        ChunkIterator<Object> iterator = new ChunkIterator<>(channel.getConnection().createChannel(),
+                settings.computeIfAbsent(iClazz, this::resolveSettings).credit(), getTimeout(request),
+                this::fromChunk, message -> {
+            throw new IllegalStateException("Streamed argument of " + iClazz.getName() + " aborted by the client");
+        });
+        iterator.open(request.getReplyTo());
+        return iterator;
+    }
+
+    /**
+     * Adapts the elements of a streamed argument to the declared parameter type.
+     *
+     * @param type     the declared parameter type
+     * @param iterator the iterator returned by {@link #receive(Class, Channel, MessageProperties)}
+     * @return the argument
+     */
+    public static Object toArgument(Class<?> type, ChunkIterator<Object> iterator) {
+        if (type.equals(Iterator.class)) {
+            return iterator;
+        }
+        if (type.equals(Stream.class)) {
+            return toStream(iterator);
+        }
+        return ReactorStreams.fromStream(() -> toStream(iterator));
+    }
+
+    private ChunkIterator<Object> call(Class<?> iClazz, RabbitTemplate template, String exchange, String routing,
+                                       Message request, long timeout, Function<Message, Object> replyDecoder) {
+        int credit = settings.computeIfAbsent(iClazz, this::resolveSettings).credit();
+        ChunkIterator<Object> iterator;
+        try {
+            iterator = new ChunkIterator<>(template.getConnectionFactory().createConnection().createChannel(false),
+                    credit, timeout, this::fromChunk, replyDecoder);
+        } catch (IOException e) {
+            throw new AmqpException("Failed to declare stream queue for " + iClazz.getName(), e);
+        }
+        MessageProperties properties = request.getMessageProperties();
+        properties.setReplyTo(iterator.getQueue());
+        properties.setHeader(STREAM_CREDIT_HEADER, credit);
+        try {
+            template.send(exchange, routing, request);
+        } catch (RuntimeException e) {
+            iterator.close();
+            throw e;
+        }
+        return iterator;
+    }
+
+    private void publishChunks(Class<?> iClazz, ChunkPublisher publisher, Stream<?> stream, int chunkSize,
+                               String contentType) throws IOException, InterruptedException {
+        Iterator<?> iterator = stream.iterator();
+        List<Object> buffer = new ArrayList<>(chunkSize);
+        while (iterator.hasNext()) {
+            buffer.add(iterator.next());
+            if (buffer.size() == chunkSize) {
+                if (!publisher.publish(toChunk(iClazz, buffer, contentType, false))) {
+                    return;
+                }
+                buffer.clear();
+            }
+        }
+        publisher.publish(toChunk(iClazz, buffer, contentType, true));
+    }
+
+    private Message toChunk(Class<?> iClazz, List<Object> elements, String contentType, boolean last) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        if (last) {
+            properties.setHeader(STREAM_END_HEADER, true);
+        }
+        Message chunk = converter.toMessage(elements.toArray(), properties);
+        return compressionRegistry.compress(iClazz, chunk);
+    }
+
+    private Object[] fromChunk(Message chunk) {
+        return (Object[]) converter.fromMessage(compressionRegistry.decompress(chunk));
+    }
+
+    private static long getTimeout(MessageProperties request) {
+        String expiration = request.getExpiration();
+        return expiration != null ? Long.parseLong(expiration) : DEFAULT_TIMEOUT;
+    }
+
+    private static Stream<?> toStream(Object value, int chunkSize) {
+        if (value == null) {
+            return Stream.empty();
+        }
+        if (value instanceof Stream<?> stream) {
+            return stream;
+        }
+        if (value instanceof Iterator<?> iterator) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        }
+        return ReactorStreams.toStream(value, chunkSize);
+    }
+
+    private static Stream<Object> toStream(ChunkIterator<Object> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private StreamSettings resolveSettings(Class<?> iClazz) {
+        RabbitRpcInterface annotation = iClazz.getAnnotation(RabbitRpcInterface.class);
+        if (annotation == null) {
+            return new StreamSettings(DEFAULT_CHUNK_SIZE, DEFAULT_CREDIT);
+        }
+        return new StreamSettings(
+                resolveInt(annotation.streamChunkSize(), DEFAULT_CHUNK_SIZE),
+                resolveInt(annotation.streamCredit(), DEFAULT_CREDIT));
+    }
+
+    private int resolveInt(String expression, int defaultValue) {
+        String value = expressionResolver.resolveValue(expression);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value);
+    }
+
+    private record StreamSettings(int chunkSize, int credit) {
+    }
+}
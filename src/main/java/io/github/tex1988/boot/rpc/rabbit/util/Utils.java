@@ -3,18 +3,28 @@ package io.github.tex1988.boot.rpc.rabbit.util;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import io.github.tex1988.boot.rpc.rabbit.index.SerializationIndex;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.util.ClassUtils;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEFAULT_ALLOWED_SERIALIZATION_PATTERNS;
@@ -23,6 +33,7 @@ import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEFAULT_ALLOW
 public class Utils {
 
     private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+    private static final Map<Method, String> METHOD_SIGNATURES = new ConcurrentHashMap<>();
 
     @SneakyThrows
     public static Class<?> getClassByName(Object self, String name) {
@@ -42,6 +53,28 @@ public class Utils {
                 .orElseThrow(() -> new IllegalStateException("Method: " + methodName + " not found"));
     }
 
+    public static Map.Entry<Method, MethodHandle> getMethodEntry(Map<Class<?>, Map<Method, MethodHandle>> methodHandles,
+                                                                 Class<?> clazz, String signature) {
+        Map<Method, MethodHandle> iMethodHandles = methodHandles.get(clazz);
+        return iMethodHandles.entrySet().stream()
+                .filter(e -> getMethodSignature(e.getKey()).equals(signature))
+                .findAny()
+                .orElseThrow(() -> new IllegalStateException("Method: " + signature + " not found"));
+    }
+
+    /**
+     * Returns the signature of a method in the form {@code name(java.lang.Long,java.lang.String)},
+     * using binary names of the parameter types. Signatures are cached per method.
+     *
+     * @param method the method
+     * @return the method signature
+     */
+    public static String getMethodSignature(Method method) {
+        return METHOD_SIGNATURES.computeIfAbsent(method, m -> Arrays.stream(m.getParameterTypes())
+                .map(Class::getName)
+                .collect(Collectors.joining(",", m.getName() + "(", ")")));
+    }
+
     public static List<String> getAllowedClassesNames(String[] patterns) {
         if (patterns != null) {
             patterns = Stream.concat(Arrays.stream(patterns), DEFAULT_ALLOWED_SERIALIZATION_PATTERNS.stream())
@@ -49,7 +82,8 @@ public class Utils {
         } else {
             patterns = DEFAULT_ALLOWED_SERIALIZATION_PATTERNS.toArray(String[]::new);
         }
-        return Arrays.stream(patterns).map(Utils::scanClasses)
+        SerializationIndex index = SerializationIndex.load(Utils.class.getClassLoader());
+        return Arrays.stream(patterns).map(pattern -> resolveClasses(pattern, index))
                 .flatMap(List::stream)
                 .toList();
     }
@@ -77,11 +111,39 @@ public class Utils {
         return true;
     }
 
-    private static List<String> scanClasses(String basePackage) {
-        if (!basePackage.endsWith(".*")) {
-            return List.of(basePackage);
+    private static List<String> resolveClasses(String pattern, SerializationIndex index) {
+        if (!pattern.endsWith(".*")) {
+            return List.of(pattern);
         }
-        basePackage = basePackage.substring(0, basePackage.length() - 2);
+        String basePackage = pattern.substring(0, pattern.length() - 2);
+        if (index != null && index.isIndexed(basePackage)) {
+            List<String> indexed = index.getClassNames(basePackage);
+            if (!indexed.isEmpty()) {
+                return indexed;
+            }
+        }
+        // Only the classpath roots containing the package are read; packages of system modules are scanned
+        List<String> listed = listClasses(basePackage);
+        return !listed.isEmpty() ? listed : scanClasses(basePackage);
+    }
+
+    @SneakyThrows
+    private static List<String> listClasses(String basePackage) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(Utils.class.getClassLoader());
+        MetadataReaderFactory readerFactory = new SimpleMetadataReaderFactory(resolver);
+        List<String> classNames = new ArrayList<>();
+        for (Resource resource : resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                + basePackage.replace('.', '/') + "/**/*.class")) {
+            ClassMetadata metadata = readerFactory.getMetadataReader(resource).getClassMetadata();
+            if (!metadata.isInterface() && !metadata.isAnnotation()
+                    && !metadata.getClassName().endsWith("package-info")) {
+                classNames.add(metadata.getClassName());
+            }
+        }
+        return classNames;
+    }
+
+    private static List<String> scanClasses(String basePackage) {
         try (ScanResult scanResult = new ClassGraph()
                 .acceptPackages(basePackage)
                 .enableSystemJarsAndModules()
@@ -0,0 +1,91 @@
+package io.github.tex1988.boot.rpc.rabbit.benchmark;
+
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generic {@code Object[]} Fory path with the signature-aware path of {@link ForyMessageConverter},
+ * which uses the fixed-width primitive codec for the signatures below.
+ * <p>
+ * Run with:
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath io.github.tex1988.boot.rpc.rabbit.benchmark.ForyMessageConverterBenchmark"}
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForyMessageConverterBenchmark {
+
+    @Param({"getById", "process"})
+    private String signature;
+
+    private ForyMessageConverter converter;
+    private Object[] args;
+    private Class<?>[] types;
+    private Message genericMessage;
+    private Message signatureAwareMessage;
+
+    @Setup
+    public void setup() {
+        converter = new ForyMessageConverter();
+        if (signature.equals("getById")) {
+            args = new Object[]{123456789L};
+            types = new Class<?>[]{Long.class};
+        } else {
+            args = new Object[]{"order-42", 7};
+            types = new Class<?>[]{String.class, Integer.class};
+        }
+        genericMessage = converter.toMessage(args, new MessageProperties());
+        signatureAwareMessage = converter.toMessage(args, types, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message genericWrite() {
+        return converter.toMessage(args, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message signatureAwareWrite() {
+        return converter.toMessage(args, types, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object genericRead() {
+        return converter.fromMessage(genericMessage);
+    }
+
+    @Benchmark
+    public Object[] signatureAwareRead() {
+        return converter.fromMessage(signatureAwareMessage, types);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ForyMessageConverterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.tex1988.boot.rpc.rabbit.benchmark;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.AbstractRabbitRpcIntegrationTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.DirectMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the request-reply round trip of an echo server consumed by a {@link SimpleMessageListenerContainer},
+ * which hands deliveries over to its consumer threads, and by a {@link DirectMessageListenerContainer},
+ * which runs the listener on the AMQP client thread. Requires Docker to start the broker.
+ * <p>
+ * Run with:
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath io.github.tex1988.boot.rpc.rabbit.benchmark.ListenerContainerLatencyBenchmark"}
+ * </p>
+ *
+ * @author tex1988
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerContainerLatencyBenchmark {
+
+    private static final String QUEUE = "benchmark.echo.queue";
+
+    @Param({"simple", "direct"})
+    private String containerType;
+
+    private RabbitMQContainer broker;
+    private CachingConnectionFactory connectionFactory;
+    private AbstractMessageListenerContainer container;
+    private RabbitTemplate rabbitTemplate;
+    private Message request;
+
+    @Setup
+    public void setup() {
+        broker = new RabbitMQContainer(DockerImageName.parse(AbstractRabbitRpcIntegrationTest.RABBITMQ_IMAGE));
+        broker.start();
+        connectionFactory = new CachingConnectionFactory(broker.getHost(), broker.getAmqpPort());
+        connectionFactory.setUsername(broker.getAdminUsername());
+        connectionFactory.setPassword(broker.getAdminPassword());
+        new RabbitAdmin(connectionFactory).declareQueue(new Queue(QUEUE, false, false, true));
+
+        rabbitTemplate = new RabbitTemplate(connectionFactory);
+        container = containerType.equals("direct")
+                ? new DirectMessageListenerContainer(connectionFactory)
+                : new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(QUEUE);
+        container.setMessageListener((MessageListener) message -> {
+            MessageProperties properties = new MessageProperties();
+            properties.setCorrelationId(message.getMessageProperties().getCorrelationId());
+            rabbitTemplate.send("", message.getMessageProperties().getReplyTo(),
+                    new Message(message.getBody(), properties));
+        });
+        container.start();
+        request = new Message(new byte[64], new MessageProperties());
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.stop();
+        connectionFactory.destroy();
+        broker.stop();
+    }
+
+    @Benchmark
+    public Message roundTrip() {
+        return rabbitTemplate.sendAndReceive("", QUEUE, request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListenerContainerLatencyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
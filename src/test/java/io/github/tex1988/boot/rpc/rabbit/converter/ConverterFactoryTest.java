@@ -0,0 +1,54 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the parsing of the Fory pool size.
+ */
+@DisplayName("Converter Factory Tests")
+class ConverterFactoryTest {
+
+    @Test
+    @DisplayName("Should default the pool size when none is set")
+    void shouldDefaultPoolSize() {
+        assertThat(ConverterFactory.parsePoolSize(null)).containsExactly(2, 100);
+        assertThat(ConverterFactory.parsePoolSize(" ")).containsExactly(2, 100);
+    }
+
+    @Test
+    @DisplayName("Should parse a maximum pool size")
+    void shouldParseMaxPoolSize() {
+        assertThat(ConverterFactory.parsePoolSize("16")).containsExactly(2, 16);
+        // The default minimum is capped by the maximum
+        assertThat(ConverterFactory.parsePoolSize("1")).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("Should parse a minimum and maximum pool size")
+    void shouldParseMinMaxPoolSize() {
+        assertThat(ConverterFactory.parsePoolSize("0-8")).containsExactly(0, 8);
+        assertThat(ConverterFactory.parsePoolSize("4-4")).containsExactly(4, 4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "8-4", "1-2-3", "0-0"})
+    @DisplayName("Should reject invalid pool sizes")
+    void shouldRejectInvalidPoolSize(String value) {
+        assertThatThrownBy(() -> ConverterFactory.parsePoolSize(value))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid Fory pool size: " + value);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-numeric pool size")
+    void shouldRejectNonNumericPoolSize() {
+        assertThatThrownBy(() -> ConverterFactory.parsePoolSize("many"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.tex1988.boot.rpc.rabbit.converter;
+
+import io.github.tex1988.boot.rpc.rabbit.metrics.RabbitRpcMetrics;
+import org.apache.fory.Fory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the growth, waits and eviction of the Fory instance pool.
+ */
+@DisplayName("Fory Pool Tests")
+class ForyPoolTest {
+
+    private static final Duration KEEP_ALIVE = Duration.ofMillis(200);
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Supplier<Fory> factory = () -> {
+        created.incrementAndGet();
+        return mock(Fory.class);
+    };
+
+    @Test
+    @DisplayName("Should reuse an idle instance for sequential callers")
+    void shouldReuseIdleInstance() {
+        // Given
+        ForyPool pool = new ForyPool(factory, 0, 4, KEEP_ALIVE);
+
+        // When
+        Fory first = pool.execute(fory -> fory);
+        Fory second = pool.execute(fory -> fory);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasValue(1);
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should grow with concurrent callers up to the maximum size")
+    void shouldGrowUpToMaxSize() throws Exception {
+        // Given
+        ForyPool pool = new ForyPool(factory, 0, 3, KEEP_ALIVE);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<CompletableFuture<Fory>> holders = hold(pool, 3, release);
+        await().atMost(Duration.ofSeconds(5)).until(() -> pool.getSize() == 3);
+        release.countDown();
+        CompletableFuture.allOf(holders.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(created).hasValue(3);
+        assertThat(pool.getSize()).isEqualTo(3);
+        assertThat(pool.getIdleSize()).isEqualTo(3);
+        assertThat(holders.stream().map(CompletableFuture::join).distinct()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should block and record the wait when the pool is exhausted")
+    void shouldBlockWhenExhausted() throws Exception {
+        // Given
+        List<Long> waits = new CopyOnWriteArrayList<>();
+        ForyPool pool = new ForyPool(factory, 0, 1, KEEP_ALIVE);
+        pool.setMetrics(new RabbitRpcMetrics() {
+
+            @Override
+            public void recordForyPoolWait(long nanos) {
+                waits.add(nanos);
+            }
+        });
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Fory> holder = hold(pool, 1, release).get(0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> pool.getSize() == 1);
+
+        // When
+        CompletableFuture<Fory> waiter = CompletableFuture.supplyAsync(() -> pool.execute(fory -> fory));
+        Thread.sleep(100);
+
+        // Then
+        assertThat(waiter).isNotDone();
+        release.countDown();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(holder.get(5, TimeUnit.SECONDS));
+        assertThat(created).hasValue(1);
+        assertThat(waits).hasSize(1);
+        assertThat(waits.get(0)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict idle instances down to the minimum size, but never below it")
+    void shouldEvictDownToMinSize() throws Exception {
+        // Given
+        ForyPool pool = new ForyPool(factory, 1, 3, KEEP_ALIVE);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Fory>> holders = hold(pool, 3, release);
+        await().atMost(Duration.ofSeconds(5)).until(() -> pool.getSize() == 3);
+        release.countDown();
+        CompletableFuture.allOf(holders.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // When
+        pool.evictIdle();
+
+        // Then
+        // Recently used instances are kept
+        assertThat(pool.getSize()).isEqualTo(3);
+
+        // When
+        Thread.sleep(KEEP_ALIVE.toMillis() + 50);
+        pool.evictIdle();
+        pool.evictIdle();
+
+        // Then
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll the size back when the factory fails")
+    void shouldRollBackSizeOnFactoryFailure() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        ForyPool pool = new ForyPool(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Factory failed");
+            }
+            return mock(Fory.class);
+        }, 0, 1, KEEP_ALIVE);
+
+        // When / Then
+        assertThatThrownBy(() -> pool.execute(fory -> fory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Factory failed");
+        assertThat(pool.getSize()).isZero();
+        Fory fory = pool.execute(pooled -> pooled);
+        assertThat(fory).isNotNull();
+        assertThat(pool.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid pool sizes")
+    void shouldRejectInvalidSizes() {
+        assertThatThrownBy(() -> new ForyPool(factory, -1, 2, KEEP_ALIVE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ForyPool(factory, 0, 0, KEEP_ALIVE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ForyPool(factory, 3, 2, KEEP_ALIVE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid Fory pool size: 3-2");
+    }
+
+    /**
+     * Starts callers that each hold an instance until released.
+     */
+    private static List<CompletableFuture<Fory>> hold(ForyPool pool, int callers, CountDownLatch release) {
+        return IntStream.range(0, callers)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> pool.execute(fory -> {
+                    awaitRelease(release);
+                    return fory;
+                }), runnable -> new Thread(runnable).start()))
+                .toList();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
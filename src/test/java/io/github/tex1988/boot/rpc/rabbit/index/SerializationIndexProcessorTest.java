@@ -0,0 +1,107 @@
+package io.github.tex1988.boot.rpc.rabbit.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_LOCATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compile-time tests for the serialization index written by {@link SerializationIndexProcessor}.
+ * The fixture package is compiled with javac and the processor.
+ */
+@DisplayName("Serialization Index Processor Tests")
+class SerializationIndexProcessorTest {
+
+    @TempDir
+    private Path output;
+
+    @Test
+    @DisplayName("Should index the classes, enums and records of a compilation, including nested ones")
+    void shouldIndexClasses() throws Exception {
+        // When
+        compile(getFixtureSources(), null);
+
+        // Then
+        assertThat(readIndex()).containsExactly(
+                "fixture.Order",
+                "fixture.Order$Line",
+                "fixture.Order$Status",
+                "fixture.Payment",
+                "fixture.sub.Refund");
+        assertThat(Files.readAllLines(output.resolve(SERIALIZATION_INDEX_LOCATION)).get(0))
+                .startsWith("# Generated by " + SerializationIndexProcessor.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should keep the resolvable entries of a previous index on incremental compilation")
+    void shouldMergePreviousIndex() throws Exception {
+        // Given
+        compile(getFixtureSources(), null);
+        Files.writeString(output.resolve(SERIALIZATION_INDEX_LOCATION), "fixture.Removed\n",
+                StandardOpenOption.APPEND);
+
+        // When
+        List<Path> payment = getFixtureSources().stream()
+                .filter(source -> source.getFileName().toString().equals("Payment.java"))
+                .toList();
+        compile(payment, output);
+
+        // Then
+        assertThat(readIndex())
+                .contains("fixture.Order", "fixture.Order$Status", "fixture.Payment", "fixture.sub.Refund")
+                .doesNotContain("fixture.Removed");
+    }
+
+    private void compile(List<Path> sources, Path classpath) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            if (classpath != null) {
+                fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, List.of(classpath));
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, null, null,
+                    fileManager.getJavaFileObjectsFromPaths(sources));
+            task.setProcessors(List.of(new SerializationIndexProcessor()));
+            assertThat(task.call())
+                    .as(() -> diagnostics.getDiagnostics().stream()
+                            .map(Diagnostic::toString)
+                            .reduce("", String::concat))
+                    .isTrue();
+        }
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(output.resolve(SERIALIZATION_INDEX_LOCATION)).stream()
+                .filter(line -> !line.startsWith("#"))
+                .toList();
+    }
+
+    private static List<Path> getFixtureSources() throws IOException, URISyntaxException {
+        Path root = Path.of(Objects.requireNonNull(
+                SerializationIndexProcessorTest.class.getResource("/serialization-index")).toURI());
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> path.toString().endsWith(".java")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.tex1988.boot.rpc.rabbit.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_IGNORE_PROPERTY;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERIALIZATION_INDEX_LOCATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for resolving packages from the serialization indexes of the classpath roots.
+ */
+@DisplayName("Serialization Index Tests")
+class SerializationIndexTest {
+
+    @TempDir
+    private Path temp;
+
+    @Test
+    @DisplayName("Should resolve a package from the index when every root containing it is indexed")
+    void shouldResolveIndexedPackage() throws IOException {
+        // Given
+        Path indexed = createRoot("indexed", "# comment\n\nfixture.Order\nfixture.sub.Refund\nother.Thing\n",
+                "fixture/sub");
+
+        // When
+        SerializationIndex index = SerializationIndex.load(createClassLoader(indexed));
+
+        // Then
+        assertThat(index).isNotNull();
+        assertThat(index.isIndexed("fixture")).isTrue();
+        assertThat(index.getClassNames("fixture")).containsExactly("fixture.Order", "fixture.sub.Refund");
+        assertThat(index.getClassNames("fixture.sub")).containsExactly("fixture.sub.Refund");
+        // Only whole package names match
+        assertThat(index.getClassNames("fix")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge the indexes of several roots")
+    void shouldMergeIndexes() throws IOException {
+        // Given
+        Path first = createRoot("first", "fixture.Order\n", "fixture");
+        Path second = createRoot("second", "fixture.Payment\n", "fixture");
+
+        // When
+        SerializationIndex index = SerializationIndex.load(createClassLoader(first, second));
+
+        // Then
+        assertThat(index).isNotNull();
+        assertThat(index.isIndexed("fixture")).isTrue();
+        assertThat(index.getClassNames("fixture")).containsExactly("fixture.Order", "fixture.Payment");
+    }
+
+    @Test
+    @DisplayName("Should not resolve a package that is also present in a non-indexed root")
+    void shouldNotResolvePartiallyIndexedPackage() throws IOException {
+        // Given
+        Path indexed = createRoot("indexed", "fixture.Order\nother.Thing\n", "fixture", "other");
+        Path plain = createRoot("plain", null, "fixture");
+
+        // When
+        SerializationIndex index = SerializationIndex.load(createClassLoader(indexed, plain));
+
+        // Then
+        assertThat(index).isNotNull();
+        assertThat(index.isIndexed("fixture")).isFalse();
+        assertThat(index.isIndexed("other")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fall back to scanning without an index")
+    void shouldFallBackWithoutIndex() throws IOException {
+        // Given
+        Path plain = createRoot("plain", null, "fixture");
+        Path empty = createRoot("empty", "# Generated, no classes\n", "fixture");
+
+        // When / Then
+        assertThat(SerializationIndex.load(createClassLoader(plain))).isNull();
+        assertThat(SerializationIndex.load(createClassLoader(empty))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to scanning when the index is ignored")
+    void shouldFallBackWhenIgnored() throws IOException {
+        // Given
+        Path indexed = createRoot("indexed", "fixture.Order\n", "fixture");
+        System.setProperty(SERIALIZATION_INDEX_IGNORE_PROPERTY, "true");
+
+        // When / Then
+        try {
+            assertThat(SerializationIndex.load(createClassLoader(indexed))).isNull();
+        } finally {
+            System.clearProperty(SERIALIZATION_INDEX_IGNORE_PROPERTY);
+        }
+    }
+
+    /**
+     * Creates a classpath root with the given package directories and, unless {@code null}, an index.
+     */
+    private Path createRoot(String name, String index, String... packages) throws IOException {
+        Path root = Files.createDirectories(temp.resolve(name));
+        for (String packagePath : packages) {
+            Files.createDirectories(root.resolve(packagePath));
+        }
+        if (index != null) {
+            Path location = root.resolve(SERIALIZATION_INDEX_LOCATION);
+            Files.createDirectories(location.getParent());
+            Files.writeString(location, index);
+        }
+        return root;
+    }
+
+    /**
+     * Creates a class loader over the given roots only, so the indexes of the test classpath are not visible.
+     */
+    private static ClassLoader createClassLoader(Path... roots) throws MalformedURLException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+}
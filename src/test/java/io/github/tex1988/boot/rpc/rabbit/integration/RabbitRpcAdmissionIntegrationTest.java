@@ -0,0 +1,119 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestMessageService;
+import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for header-only admission checks of requests.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Admission Integration Tests")
+class RabbitRpcAdmissionIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final byte[] UNDECODABLE_BODY = {(byte) 0xFF, (byte) 0xFE, (byte) 0xFD};
+
+    @Autowired
+    private ITestMessageService iTestMessageServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    private final ForyMessageConverter converter = new ForyMessageConverter();
+
+    @Test
+    @DisplayName("Should admit requests of the client")
+    void shouldAdmitClientRequests() {
+        // When/Then
+        assertThat(iTestMessageServiceClient.echo("hello")).contains("hello");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown services without decoding the body")
+    void shouldRejectUnknownService() {
+        // Given
+        MessageProperties properties = createProperties("com.example.IUnknownService", "echo");
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.NOT_FOUND.getCode());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown methods without decoding the body")
+    void shouldRejectUnknownMethod() {
+        // Given
+        MessageProperties properties = createProperties(ITestMessageService.class.getCanonicalName(), "unknown");
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.NOT_FOUND.getCode());
+    }
+
+    @Test
+    @DisplayName("Should reject requests past their deadline")
+    void shouldRejectExpiredRequests() {
+        // Given
+        MessageProperties properties = createProperties(ITestMessageService.class.getCanonicalName(), "echo");
+        properties.setHeader(DEADLINE_HEADER, System.currentTimeMillis() - 1000);
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.REQUEST_TIMEOUT.getCode());
+    }
+
+    @Test
+    @DisplayName("Should reject requests of unsupported content types")
+    void shouldRejectUnsupportedContentType() {
+        // Given
+        MessageProperties properties = createProperties(ITestMessageService.class.getCanonicalName(), "echo");
+        properties.setContentType("application/x-unknown");
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.UNSUPPORTED_MEDIA_TYPE.getCode());
+    }
+
+    private MessageProperties createProperties(String service, String method) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(ForyMessageConverter.CONTENT_TYPE);
+        properties.setHeader(SERVICE_HEADER, service);
+        properties.setHeader(METHOD_HEADER, method);
+        return properties;
+    }
+
+    private ErrorRabbitResponse send(MessageProperties properties) {
+        Message reply = rabbitTemplate.sendAndReceive("test.message.exchange", "test.message.routing",
+                new Message(UNDECODABLE_BODY, properties));
+        assertThat(reply).isNotNull();
+        Object response = converter.fromMessage(reply);
+        assertThat(response).isInstanceOf(ErrorRabbitResponse.class);
+        return (ErrorRabbitResponse) response;
+    }
+}
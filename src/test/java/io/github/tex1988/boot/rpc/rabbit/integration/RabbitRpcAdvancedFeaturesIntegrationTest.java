@@ -102,6 +102,18 @@ class RabbitRpcAdvancedFeaturesIntegrationTest extends AbstractRabbitRpcIntegrat
         assertThat(result1).isNotEqualTo(result2);
     }
 
+    @Test
+    @DisplayName("Should resolve overloaded method by signature when arguments are null")
+    void shouldResolveOverloadedMethodBySignatureWithNullArguments() {
+        // When
+        String result1 = iTestAdvancedServiceClient.process("text", (Integer) null);
+        String result2 = iTestAdvancedServiceClient.process("text", (String) null);
+
+        // Then
+        assertThat(result1).isEqualTo("Processed: text with number null");
+        assertThat(result2).isEqualTo("Processed: text and null");
+    }
+
     // ==================== NULL HANDLING TESTS ====================
 
     @Test
@@ -0,0 +1,75 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestAutoscaledService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for the consumer autoscaling of a queue.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class, properties = "rabbit.rpc.test.autoscale-interval=200")
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Autoscaling Integration Tests")
+class RabbitRpcAutoscalingIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestAutoscaledService iTestAutoscaledServiceClient;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry registry;
+
+    @Test
+    @DisplayName("Should add consumers under load within the bounds and remove them when idle")
+    void shouldScaleConsumers() {
+        // Given
+        SimpleMessageListenerContainer container = getContainer("test.autoscaled.queue");
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+
+        // When
+        List<CompletableFuture<Long>> calls = IntStream.range(0, 160)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> iTestAutoscaledServiceClient.work(50), callers))
+                .toList();
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> getConsumers(container) > 1);
+        calls.forEach(CompletableFuture::join);
+        assertThat(getConsumers(container)).isLessThanOrEqualTo(4);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> getConsumers(container) == 1);
+        callers.shutdown();
+    }
+
+    private int getConsumers(SimpleMessageListenerContainer container) {
+        return (int) ReflectionTestUtils.getField(container, "concurrentConsumers");
+    }
+
+    private SimpleMessageListenerContainer getContainer(String queue) {
+        return registry.getListenerContainers().stream()
+                .filter(SimpleMessageListenerContainer.class::isInstance)
+                .map(SimpleMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.asList(container.getQueueNames()).contains(queue))
+                .findAny()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestBoundedQueueService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for bounded queues and fail-fast clients.
+ * <p>
+ * {@link ITestBoundedQueueService} is served by a quorum queue and uses {@code @MessagePriority}.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class, properties = {
+        "spring.rabbitmq.publisher-confirm-type=correlated",
+        "spring.rabbitmq.publisher-returns=true"
+})
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Bounded Queue Integration Tests")
+class RabbitRpcBoundedQueueIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final long SLOW_MILLIS = 2000L;
+
+    @Autowired
+    private ITestBoundedQueueService iTestBoundedQueueServiceClient;
+
+    @Autowired
+    private AmqpAdmin amqpAdmin;
+
+    @Test
+    @DisplayName("Should serve calls of a bounded quorum queue")
+    void shouldServeCalls() {
+        // When
+        long result = iTestBoundedQueueServiceClient.work(0);
+
+        // Then
+        assertThat(result).isZero();
+        assertThat(amqpAdmin.getQueueInfo("test.bounded.queue")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the queue is full")
+    void shouldFailFastWhenFull() {
+        // Given
+        CompletableFuture<Long> running = CompletableFuture.supplyAsync(() ->
+                iTestBoundedQueueServiceClient.work(SLOW_MILLIS));
+        // Wait until the slow call is taken by the single consumer
+        await().pollDelay(Duration.ofMillis(300)).atMost(Duration.ofSeconds(5)).until(() -> getMessageCount() == 0);
+        CompletableFuture<Long> queued = CompletableFuture.supplyAsync(() -> iTestBoundedQueueServiceClient.work(0));
+        await().atMost(Duration.ofSeconds(5)).until(() -> getMessageCount() == 1);
+
+        // When/Then
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> iTestBoundedQueueServiceClient.work(0))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .satisfies(e -> assertThat(((RabbitRpcServiceException) e).getStatusCode())
+                        .isEqualTo(ErrorStatusCode.SERVICE_UNAVAILABLE.getCode()));
+        assertThat(System.currentTimeMillis() - start).isLessThan(SLOW_MILLIS);
+        assertThat(running.join()).isEqualTo(SLOW_MILLIS);
+        assertThat(queued.join()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should declare a quorum queue without max priority for prioritized calls")
+    void shouldServePrioritizedCallsOfQuorumQueue() {
+        // When
+        long result = iTestBoundedQueueServiceClient.urgentWork(0);
+
+        // Then
+        assertThat(result).isZero();
+        assertThat(amqpAdmin.getQueueInfo("test.bounded.queue")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when max priority is set on a quorum queue")
+    void shouldRejectMaxPriorityOfQuorumQueue() {
+        // Given
+        SpringApplicationBuilder application = new SpringApplicationBuilder(TestClientServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("rabbit.rpc.test.bounded-max-priority=10",
+                        "spring.rabbitmq.host=" + rabbitMQContainer.getHost(),
+                        "spring.rabbitmq.port=" + rabbitMQContainer.getAmqpPort(),
+                        "spring.rabbitmq.username=" + rabbitMQContainer.getAdminUsername(),
+                        "spring.rabbitmq.password=" + rabbitMQContainer.getAdminPassword());
+
+        // When/Then
+        assertThatThrownBy(application::run)
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Quorum queue test.bounded.queue");
+    }
+
+    private long getMessageCount() {
+        QueueInformation queueInfo = amqpAdmin.getQueueInfo("test.bounded.queue");
+        return queueInfo != null ? queueInfo.getMessageCount() : -1;
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestBulkheadService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for methods running on bulkhead executors.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Bulkhead Integration Tests")
+class RabbitRpcBulkheadIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final long SLOW_MILLIS = 2000L;
+
+    @Autowired
+    private ITestBulkheadService iTestBulkheadServiceClient;
+
+    @Test
+    @DisplayName("Should serve fast methods while slow methods occupy their bulkhead")
+    void shouldNotBlockFastMethods() {
+        // Given
+        List<CompletableFuture<Long>> slowCalls = startSlowCalls();
+
+        // When
+        long start = System.currentTimeMillis();
+        String result = iTestBulkheadServiceClient.fast("fast");
+
+        // Then
+        assertThat(result).isEqualTo("fast");
+        assertThat(System.currentTimeMillis() - start).isLessThan(SLOW_MILLIS);
+        assertThat(slowCalls.stream().map(CompletableFuture::join).toList()).containsOnly(SLOW_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should reject requests of a full bulkhead at once")
+    void shouldRejectWhenFull() {
+        // Given
+        List<CompletableFuture<Long>> slowCalls = startSlowCalls();
+
+        // When/Then
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> iTestBulkheadServiceClient.slow(SLOW_MILLIS))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .satisfies(e -> assertThat(((RabbitRpcServiceException) e).getStatusCode())
+                        .isEqualTo(ErrorStatusCode.SERVICE_UNAVAILABLE.getCode()));
+        assertThat(System.currentTimeMillis() - start).isLessThan(SLOW_MILLIS);
+        slowCalls.forEach(CompletableFuture::join);
+    }
+
+    @Test
+    @DisplayName("Should reply with the error of a method run on its bulkhead")
+    void shouldReplyWithError() {
+        // When/Then
+        assertThatThrownBy(() -> iTestBulkheadServiceClient.failing("bulkhead failure"))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .hasMessageContaining("bulkhead failure")
+                .satisfies(e -> assertThat(((RabbitRpcServiceException) e).getStatusCode())
+                        .isEqualTo(ErrorStatusCode.INTERNAL_SERVER_ERROR.getCode()));
+    }
+
+    private List<CompletableFuture<Long>> startSlowCalls() {
+        List<CompletableFuture<Long>> slowCalls = IntStream.range(0, 2)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> iTestBulkheadServiceClient.slow(SLOW_MILLIS)))
+                .toList();
+        // Wait until both calls are handed over to the bulkhead
+        await().pollDelay(Duration.ofMillis(500)).atMost(Duration.ofSeconds(1)).until(() -> true);
+        return slowCalls;
+    }
+}
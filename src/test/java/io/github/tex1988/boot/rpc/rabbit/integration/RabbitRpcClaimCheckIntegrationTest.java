@@ -0,0 +1,111 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.InMemoryBlobStore;
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestClaimCheckService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.CLAIM_CHECK_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for claim-check offload of oversized payloads.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Claim Check Integration Tests")
+class RabbitRpcClaimCheckIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestClaimCheckService iTestClaimCheckServiceClient;
+
+    @Autowired
+    private InMemoryBlobStore blobStore;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should return a large offloaded response and delete the stored body")
+    void shouldReturnLargeOffloadedResponse() {
+        // When
+        List<String> result = iTestClaimCheckServiceClient.generate(100_000);
+
+        // Then
+        assertThat(result).hasSize(100_000);
+        assertThat(result.get(99_999)).isEqualTo("item-99999");
+        assertThat(blobStore.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send a large offloaded request and delete the stored body")
+    void shouldSendLargeOffloadedRequest() {
+        // Given
+        List<String> items = Collections.nCopies(50_000, "item");
+
+        // When
+        Integer result = iTestClaimCheckServiceClient.totalLength(items);
+
+        // Then
+        assertThat(result).isEqualTo(200_000);
+        // The server deletes the stored request once it has been handled
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(blobStore.size()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should send only the reference of offloaded replies")
+    void shouldSendOnlyReference() {
+        // Given
+        Message request = createRequest(100_000);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.claimcheck.exchange", "test.claimcheck.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getBody()).isEmpty();
+        String reference = reply.getMessageProperties().getHeader(CLAIM_CHECK_HEADER);
+        assertThat(reference).isNotNull();
+        assertThat(blobStore.size()).isEqualTo(1);
+        blobStore.delete(reference);
+    }
+
+    @Test
+    @DisplayName("Should not offload bodies below the threshold")
+    void shouldNotOffloadSmallBodies() {
+        // Given
+        Message request = createRequest(1);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.claimcheck.exchange", "test.claimcheck.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getBody()).isNotEmpty();
+        assertThat((Object) reply.getMessageProperties().getHeader(CLAIM_CHECK_HEADER)).isNull();
+    }
+
+    private Message createRequest(Integer count) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestClaimCheckService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "generate");
+        return new ForyMessageConverter().toMessage(new Object[]{count}, properties);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestMessage;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCodecService;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestMessageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ENVELOPE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for content-type negotiated codecs.
+ * <p>
+ * {@link ITestCodecService} is bound to Java serialization via its {@code contentType},
+ * while all other test services keep using the default Fory codec on the same server.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Codec Integration Tests")
+class RabbitRpcCodecIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestCodecService iTestCodecServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should call service with a non-default codec")
+    void shouldCallServiceWithNonDefaultCodec() {
+        // When
+        TestMessage result = iTestCodecServiceClient.echo(new TestMessage("codec", 42L));
+
+        // Then
+        assertThat(result.getContent()).isEqualTo("Echo: codec");
+        assertThat(result.getTimestamp()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should preserve argument types with a non-default codec")
+    void shouldPreserveArgumentTypes() {
+        // When
+        Long result = iTestCodecServiceClient.sum(40L, 2L);
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should return null with a non-default codec")
+    void shouldReturnNullWithNonDefaultCodec() {
+        assertThat(iTestCodecServiceClient.getNull()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reply with the codec of the request")
+    void shouldReplyWithRequestCodec() {
+        // Given
+        SimpleMessageConverter converter = new SimpleMessageConverter();
+        converter.setAllowedListPatterns(List.of("java.*", "[Ljava.*", "io.github.tex1988.boot.rpc.rabbit.*"));
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestCodecService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "sum");
+        Message request = converter.toMessage(new Object[]{1L, 2L}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.codec.exchange", "test.codec.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getContentType())
+                .isEqualTo(MessageProperties.CONTENT_TYPE_SERIALIZED_OBJECT);
+        assertThat(converter.fromMessage(reply)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should reply without an envelope to requests without an envelope")
+    void shouldReplyPlainToPlainRequest() {
+        // Given
+        ForyMessageConverter converter = new ForyMessageConverter();
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestMessageService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "echo");
+        Message request = converter.toMessage(new Object[]{"plain"}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.message.exchange", "test.message.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getHeaders()).doesNotContainKey(ENVELOPE_HEADER);
+        assertThat(converter.fromMessage(reply)).isEqualTo("Echo: plain");
+    }
+}
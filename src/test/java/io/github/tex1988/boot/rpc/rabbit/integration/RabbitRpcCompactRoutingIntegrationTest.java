@@ -0,0 +1,102 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCompactRoutingService;
+import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
+import io.github.tex1988.boot.rpc.rabbit.routing.RouteRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.ROUTE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the compact routing header mode.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Compact Routing Integration Tests")
+class RabbitRpcCompactRoutingIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestCompactRoutingService iTestCompactRoutingServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    private final ForyMessageConverter converter = new ForyMessageConverter();
+
+    @Test
+    @DisplayName("Should call a method by its route id")
+    void shouldCallMethodByRouteId() {
+        // When
+        String result = iTestCompactRoutingServiceClient.echo("hello");
+
+        // Then
+        assertThat(result).isEqualTo("echo: hello");
+    }
+
+    @Test
+    @DisplayName("Should route overloaded methods by signature")
+    void shouldRouteOverloads() {
+        // When/Then
+        assertThat(iTestCompactRoutingServiceClient.add(1, 2)).isEqualTo(3);
+        assertThat(iTestCompactRoutingServiceClient.add(1L, 2L)).isEqualTo(1_000_000_000_003L);
+    }
+
+    @Test
+    @DisplayName("Should propagate errors of routed requests")
+    void shouldPropagateErrors() {
+        // When/Then
+        assertThatThrownBy(() -> iTestCompactRoutingServiceClient.fail("Simulated error"))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .hasMessageContaining("Simulated error");
+    }
+
+    @Test
+    @DisplayName("Should accept requests carrying only the route header")
+    void shouldAcceptRouteHeaderOnly() throws NoSuchMethodException {
+        // Given
+        long routeId = RouteRegistry.getRouteId(ITestCompactRoutingService.class,
+                ITestCompactRoutingService.class.getMethod("echo", String.class));
+        Message request = createRequest(routeId, "raw");
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.routing.exchange", "test.routing.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(converter.fromMessage(reply, new Class<?>[]{String.class})[0]).isEqualTo("echo: raw");
+    }
+
+    @Test
+    @DisplayName("Should reply with an error to unknown route ids")
+    void shouldRejectUnknownRouteId() {
+        // Given
+        Message request = createRequest(42L, "raw");
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.routing.exchange", "test.routing.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(converter.fromMessage(reply)).isInstanceOf(ErrorRabbitResponse.class);
+    }
+
+    private Message createRequest(long routeId, String value) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(ROUTE_HEADER, routeId);
+        return converter.toMessage(new Object[]{value}, properties);
+    }
+}
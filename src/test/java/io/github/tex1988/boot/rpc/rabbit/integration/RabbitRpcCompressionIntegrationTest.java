@@ -0,0 +1,151 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestUser;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestDictionaryCompressionService;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCompressionService;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestZstdCompressionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DICTIONARY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for threshold-based payload compression.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Compression Integration Tests")
+class RabbitRpcCompressionIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestCompressionService iTestCompressionServiceClient;
+
+    @Autowired
+    private ITestZstdCompressionService iTestZstdCompressionServiceClient;
+
+    @Autowired
+    private ITestDictionaryCompressionService iTestDictionaryCompressionServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should return a large compressed response")
+    void shouldReturnLargeCompressedResponse() {
+        // When
+        List<String> result = iTestCompressionServiceClient.generate(100_000);
+
+        // Then
+        assertThat(result).hasSize(100_000);
+        assertThat(result.get(99_999)).isEqualTo("item-99");
+    }
+
+    @Test
+    @DisplayName("Should send a large compressed request")
+    void shouldSendLargeCompressedRequest() {
+        // Given
+        List<String> items = Collections.nCopies(10_000, "item");
+
+        // When
+        Integer result = iTestCompressionServiceClient.totalLength(items);
+
+        // Then
+        assertThat(result).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("Should not compress bodies below the threshold")
+    void shouldNotCompressSmallBodies() {
+        // Given
+        Message request = createRequest("generate", 1);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.compression.exchange", "test.compression.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getContentEncoding()).doesNotStartWith("lz4");
+    }
+
+    @Test
+    @DisplayName("Should mark compressed replies by content encoding")
+    void shouldMarkCompressedReplies() {
+        // Given
+        Message request = createRequest("generate", 10_000);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.compression.exchange", "test.compression.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getContentEncoding()).startsWith("lz4");
+    }
+
+    @Test
+    @DisplayName("Should round-trip with Zstandard compression")
+    void shouldRoundTripWithZstd() {
+        // When
+        List<String> result = iTestZstdCompressionServiceClient.generate(50_000);
+
+        // Then
+        assertThat(result).hasSize(50_000);
+        assertThat(result.get(0)).isEqualTo("item-0");
+    }
+
+    @Test
+    @DisplayName("Should round-trip small payloads with a Zstandard dictionary")
+    void shouldRoundTripWithDictionary() {
+        // Given
+        TestUser user = new TestUser(42L, "Alice Bob", "alice.bob@example.com", true);
+
+        // When
+        TestUser result = iTestDictionaryCompressionServiceClient.echo(user);
+
+        // Then
+        assertThat(result).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Should send the dictionary id with dictionary-compressed replies")
+    void shouldSendDictionaryId() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestDictionaryCompressionService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "echo");
+        TestUser user = new TestUser(42L, "Alice Bob", "alice.bob@example.com", true);
+        Message request = new ForyMessageConverter(List.of(TestUser.class.getName()))
+                .toMessage(new Object[]{user}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.compression.exchange",
+                "test.compression.dictionary.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getContentEncoding()).startsWith("zstd");
+        assertThat((Object) reply.getMessageProperties().getHeader(DICTIONARY_HEADER)).isNotNull();
+    }
+
+    private Message createRequest(String methodName, Integer count) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestCompressionService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, methodName);
+        return new ForyMessageConverter().toMessage(new Object[]{count}, properties);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcLimitExceededException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestLimitedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for the adaptive concurrency limit of clients.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Concurrency Limit Integration Tests")
+class RabbitRpcConcurrencyLimitIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final long SLOW_MILLIS = 2000L;
+
+    @Autowired
+    private ITestLimitedService iTestLimitedServiceClient;
+
+    @Test
+    @DisplayName("Should serve calls within the limit")
+    void shouldServeCallsWithinLimit() {
+        // When/Then
+        assertThat(iTestLimitedServiceClient.fast("first")).isEqualTo("first");
+        assertThat(iTestLimitedServiceClient.fast("second")).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("Should fail calls over the limit at once without sending them")
+    void shouldRejectCallsOverLimit() {
+        // Given
+        CompletableFuture<Long> slowCall = CompletableFuture.supplyAsync(() -> iTestLimitedServiceClient.slow(SLOW_MILLIS));
+        await().pollDelay(Duration.ofMillis(500)).atMost(Duration.ofSeconds(1)).until(() -> true);
+
+        // When/Then
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> iTestLimitedServiceClient.fast("rejected"))
+                .isInstanceOf(RabbitRpcLimitExceededException.class)
+                .satisfies(e -> assertThat(((RabbitRpcLimitExceededException) e).getStatusCode())
+                        .isEqualTo(ErrorStatusCode.SERVICE_UNAVAILABLE.getCode()));
+        assertThat(System.currentTimeMillis() - start).isLessThan(SLOW_MILLIS);
+        assertThat(slowCall.join()).isEqualTo(SLOW_MILLIS);
+        assertThat(iTestLimitedServiceClient.fast("after")).isEqualTo("after");
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestDirectService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.DirectMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for interfaces consumed by a direct listener container.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Direct Container Integration Tests")
+class RabbitRpcDirectContainerIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestDirectService iTestDirectServiceClient;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry registry;
+
+    @Test
+    @DisplayName("Should consume the queue with a direct container")
+    void shouldUseDirectContainer() {
+        // When
+        MessageListenerContainer container = getContainer("test.direct.queue");
+        MessageListenerContainer defaultContainer = getContainer("test.message.queue");
+
+        // Then
+        assertThat(container).isInstanceOf(DirectMessageListenerContainer.class);
+        assertThat(ReflectionTestUtils.getField(container, "consumersPerQueue")).isEqualTo(2);
+        assertThat(defaultContainer).isInstanceOf(SimpleMessageListenerContainer.class);
+    }
+
+    @Test
+    @DisplayName("Should handle calls with a direct container")
+    void shouldHandleCalls() {
+        // When
+        var results = IntStream.range(0, 10).mapToObj(i -> iTestDirectServiceClient.echo("value-" + i)).toList();
+
+        // Then
+        assertThat(results).containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> "value-" + i).toList());
+    }
+
+    private MessageListenerContainer getContainer(String queue) {
+        return registry.getListenerContainers().stream()
+                .map(AbstractMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.asList(container.getQueueNames()).contains(queue))
+                .findAny()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestLazyArgumentService;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.impl.TestLazyArgumentServiceImpl;
+import io.github.tex1988.boot.rpc.rabbit.model.LazyArgument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for lazily decoded arguments.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Lazy Argument Integration Tests")
+class RabbitRpcLazyArgumentIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestLazyArgumentService iTestLazyArgumentServiceClient;
+
+    @Autowired
+    private TestLazyArgumentServiceImpl lazyArgumentServiceImpl;
+
+    @Test
+    @DisplayName("Should decode a lazy argument on access")
+    void shouldDecodeOnAccess() {
+        // When
+        Integer result = iTestLazyArgumentServiceClient.count("count",
+                LazyArgument.of(Collections.nCopies(10_000, "item")));
+
+        // Then
+        assertThat(result).isEqualTo(10_000);
+        assertThat(lazyArgumentServiceImpl.getLastItems().isDecoded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not decode a lazy argument that is not accessed")
+    void shouldNotDecodeWithoutAccess() {
+        // When
+        Integer result = iTestLazyArgumentServiceClient.count("skip",
+                LazyArgument.of(Collections.nCopies(10_000, "item")));
+
+        // Then
+        assertThat(result).isEqualTo(-1);
+        assertThat(lazyArgumentServiceImpl.getLastItems().isDecoded()).isFalse();
+        assertThat(lazyArgumentServiceImpl.getLastItems().get()).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Should pass lazy arguments holding null")
+    void shouldPassNullValues() {
+        // When/Then
+        assertThat(iTestLazyArgumentServiceClient.count("count", LazyArgument.of(null))).isZero();
+        assertThat(iTestLazyArgumentServiceClient.count("count", null)).isZero();
+    }
+}
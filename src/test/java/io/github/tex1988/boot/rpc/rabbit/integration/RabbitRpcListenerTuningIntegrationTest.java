@@ -0,0 +1,84 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.CustomConfigBeans;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestTunedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for listener container settings of a single interface.
+ */
+@SpringBootTest(classes = {TestClientServerConfig.class, RabbitRpcListenerTuningIntegrationTest.TunedExecutorConfig.class},
+        properties = "rabbit.rpc.test.tuned-executor=tunedTaskExecutor")
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Listener Tuning Integration Tests")
+class RabbitRpcListenerTuningIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestTunedService iTestTunedServiceClient;
+
+    @Autowired
+    @Qualifier("tunedTaskExecutor")
+    private CustomConfigBeans.CustomTaskExecutor tunedTaskExecutor;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry registry;
+
+    @Test
+    @DisplayName("Should run the consumers of the interface on its own executor")
+    void shouldUseInterfaceExecutor() {
+        // When
+        String result = iTestTunedServiceClient.threadName();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(tunedTaskExecutor.getExecutedTaskCount()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("Should apply the concurrency and prefetch of the interface")
+    void shouldApplyConcurrencyAndPrefetch() {
+        // When
+        SimpleMessageListenerContainer container = getContainer("test.tuned.queue");
+        SimpleMessageListenerContainer defaultContainer = getContainer("test.message.queue");
+
+        // Then
+        assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(2);
+        assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(1);
+        assertThat(ReflectionTestUtils.getField(defaultContainer, "prefetchCount")).isNotEqualTo(1);
+    }
+
+    private SimpleMessageListenerContainer getContainer(String queue) {
+        return registry.getListenerContainers().stream()
+                .filter(SimpleMessageListenerContainer.class::isInstance)
+                .map(SimpleMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.asList(container.getQueueNames()).contains(queue))
+                .findAny()
+                .orElseThrow();
+    }
+
+    @TestConfiguration
+    static class TunedExecutorConfig {
+
+        @Bean
+        public CustomConfigBeans.CustomTaskExecutor tunedTaskExecutor() {
+            return new CustomConfigBeans.CustomTaskExecutor();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestMessageService;
+import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SENT_AT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for shedding requests that waited too long in the queue.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class, properties = "rabbit.rpc.test.queue-wait-ratio=0.5")
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Load Shedding Integration Tests")
+class RabbitRpcLoadSheddingIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final byte[] UNDECODABLE_BODY = {(byte) 0xFF, (byte) 0xFE, (byte) 0xFD};
+
+    @Autowired
+    private ITestMessageService iTestMessageServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    private final ForyMessageConverter converter = new ForyMessageConverter();
+
+    @Test
+    @DisplayName("Should serve fresh requests of the client")
+    void shouldServeFreshRequests() {
+        // When/Then
+        assertThat(iTestMessageServiceClient.echo("hello")).contains("hello");
+    }
+
+    @Test
+    @DisplayName("Should shed a request that waited longer than its share of the remaining budget")
+    void shouldShedStaleRequest() {
+        // Given
+        long now = System.currentTimeMillis();
+        MessageProperties properties = createProperties();
+        properties.setHeader(SENT_AT_HEADER, now - 4000);
+        properties.setHeader(DEADLINE_HEADER, now + 1000);
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.SERVICE_UNAVAILABLE.getCode());
+        assertThat(response.getMessage()).contains("waiting");
+    }
+
+    @Test
+    @DisplayName("Should not shed a request that waited within its share of the remaining budget")
+    void shouldNotShedRequestWithinBudget() {
+        // Given
+        long now = System.currentTimeMillis();
+        MessageProperties properties = createProperties();
+        properties.setHeader(SENT_AT_HEADER, now - 1000);
+        properties.setHeader(DEADLINE_HEADER, now + 9000);
+
+        // When
+        ErrorRabbitResponse response = send(properties);
+
+        // Then the undecodable body fails later than the admission check
+        assertThat(response.getStatusCode()).isNotEqualTo(ErrorStatusCode.SERVICE_UNAVAILABLE.getCode());
+    }
+
+    private MessageProperties createProperties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(ForyMessageConverter.CONTENT_TYPE);
+        properties.setHeader(SERVICE_HEADER, ITestMessageService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "echo");
+        return properties;
+    }
+
+    private ErrorRabbitResponse send(MessageProperties properties) {
+        Message reply = rabbitTemplate.sendAndReceive("test.message.exchange", "test.message.routing",
+                new Message(UNDECODABLE_BODY, properties));
+        assertThat(reply).isNotNull();
+        Object response = converter.fromMessage(reply);
+        assertThat(response).isInstanceOf(ErrorRabbitResponse.class);
+        return (ErrorRabbitResponse) response;
+    }
+}
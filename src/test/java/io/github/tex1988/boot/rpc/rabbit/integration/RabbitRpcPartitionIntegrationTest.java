@@ -0,0 +1,76 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestPartitionedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for key-ordered processing over partition queues.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Partition Integration Tests")
+class RabbitRpcPartitionIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final int SEQUENCES = 50;
+
+    @Autowired
+    private ITestPartitionedService iTestPartitionedServiceClient;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry registry;
+
+    @Test
+    @DisplayName("Should consume every partition queue with a single consumer")
+    void shouldConsumePartitionsWithSingleConsumer() {
+        // When
+        List<AbstractMessageListenerContainer> containers = registry.getListenerContainers().stream()
+                .map(AbstractMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.stream(container.getQueueNames())
+                        .anyMatch(queue -> queue.startsWith("test.partitioned.queue.")))
+                .toList();
+
+        // Then
+        assertThat(containers).hasSize(4);
+        assertThat(containers).allSatisfy(container ->
+                assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Should process the requests of each key in the order they were sent")
+    void shouldProcessInOrderPerKey() {
+        // Given
+        List<String> keys = IntStream.range(0, 8).mapToObj(i -> "entity-" + i).toList();
+
+        // When
+        keys.stream()
+                .map(key -> CompletableFuture.runAsync(() -> IntStream.range(0, SEQUENCES)
+                        .forEach(sequence -> iTestPartitionedServiceClient.record(key, sequence))))
+                .toList()
+                .forEach(CompletableFuture::join);
+
+        // Then
+        keys.forEach(key -> await().atMost(Duration.ofSeconds(10))
+                .until(() -> iTestPartitionedServiceClient.getSequences(key).size() == SEQUENCES));
+        keys.forEach(key -> assertThat(iTestPartitionedServiceClient.getSequences(key))
+                .containsExactlyElementsOf(IntStream.range(0, SEQUENCES).boxed().toList()));
+    }
+}
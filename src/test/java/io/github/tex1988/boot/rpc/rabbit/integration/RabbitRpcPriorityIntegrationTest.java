@@ -0,0 +1,84 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestPriorityService;
+import io.github.tex1988.boot.rpc.rabbit.priority.PriorityContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for message priorities of requests.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Priority Integration Tests")
+class RabbitRpcPriorityIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final int BATCH_CALLS = 10;
+    private static final long BATCH_MILLIS = 300L;
+
+    @Autowired
+    private ITestPriorityService iTestPriorityServiceClient;
+
+    @Test
+    @DisplayName("Should deliver high priority methods before a backlog of low priority ones")
+    void shouldOvertakeBacklogByMethodPriority() {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(BATCH_CALLS);
+        List<CompletableFuture<Long>> batchCalls = startBatchCalls(callers);
+
+        // When
+        long start = System.currentTimeMillis();
+        String result = iTestPriorityServiceClient.interactive("interactive");
+
+        // Then
+        assertThat(result).isEqualTo("interactive");
+        assertThat(System.currentTimeMillis() - start).isLessThan(BATCH_CALLS * BATCH_MILLIS / 2);
+        batchCalls.forEach(CompletableFuture::join);
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver calls with a context priority before a backlog of low priority ones")
+    void shouldOvertakeBacklogByContextPriority() {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(BATCH_CALLS);
+        List<CompletableFuture<Long>> batchCalls = startBatchCalls(callers);
+
+        // When
+        long start = System.currentTimeMillis();
+        long result = PriorityContext.call(9, () -> iTestPriorityServiceClient.batch(0));
+
+        // Then
+        assertThat(result).isZero();
+        assertThat(System.currentTimeMillis() - start).isLessThan(BATCH_CALLS * BATCH_MILLIS / 2);
+        assertThat(PriorityContext.getPriority()).isNull();
+        batchCalls.forEach(CompletableFuture::join);
+        callers.shutdown();
+    }
+
+    private List<CompletableFuture<Long>> startBatchCalls(ExecutorService callers) {
+        List<CompletableFuture<Long>> batchCalls = IntStream.range(0, BATCH_CALLS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> iTestPriorityServiceClient.batch(BATCH_MILLIS),
+                        callers))
+                .toList();
+        // Wait until the batch calls are queued behind the first one
+        await().pollDelay(Duration.ofMillis(BATCH_MILLIS / 2)).atMost(Duration.ofSeconds(1)).until(() -> true);
+        return batchCalls;
+    }
+}
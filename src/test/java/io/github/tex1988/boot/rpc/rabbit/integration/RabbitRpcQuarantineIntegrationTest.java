@@ -0,0 +1,98 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestQuarantineService;
+import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
+import io.github.tex1988.boot.rpc.rabbit.quarantine.PoisonMessageQuarantine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the quarantine of poison messages.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Quarantine Integration Tests")
+class RabbitRpcQuarantineIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final byte[] UNDECODABLE_BODY = {(byte) 0xFF, (byte) 0xFE, (byte) 0xFD};
+    private static final String QUARANTINE_QUEUE =
+            PoisonMessageQuarantine.getQuarantineQueueName("test.quarantine.queue");
+
+    @Autowired
+    private ITestQuarantineService iTestQuarantineServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    private final ForyMessageConverter converter = new ForyMessageConverter();
+
+    @Test
+    @DisplayName("Should serve requests of the client")
+    void shouldServeClientRequests() {
+        // When/Then
+        assertThat(iTestQuarantineServiceClient.echo("hello")).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("Should quarantine a request delivered too often without decoding it")
+    void shouldQuarantinePoisonMessage() {
+        // Given
+        MessageProperties properties = createProperties();
+        properties.setHeader("x-delivery-count", 5);
+
+        // When
+        Message reply = send(properties);
+
+        // Then
+        Object response = converter.fromMessage(reply);
+        assertThat(response).isInstanceOf(ErrorRabbitResponse.class);
+        assertThat(((ErrorRabbitResponse) response).getStatusCode()).isEqualTo(ErrorStatusCode.BAD_REQUEST.getCode());
+        Message quarantined = rabbitTemplate.receive(QUARANTINE_QUEUE, 5000);
+        assertThat(quarantined).isNotNull();
+        assertThat(quarantined.getBody()).isEqualTo(UNDECODABLE_BODY);
+    }
+
+    @Test
+    @DisplayName("Should not quarantine a request within its deliveries")
+    void shouldNotQuarantineWithinDeliveries() {
+        // Given
+        MessageProperties properties = createProperties();
+        properties.setHeader("x-delivery-count", 1);
+
+        // When
+        send(properties);
+
+        // Then
+        assertThat(rabbitTemplate.receive(QUARANTINE_QUEUE, 500)).isNull();
+    }
+
+    private MessageProperties createProperties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(ForyMessageConverter.CONTENT_TYPE);
+        properties.setHeader(SERVICE_HEADER, ITestQuarantineService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "echo");
+        return properties;
+    }
+
+    private Message send(MessageProperties properties) {
+        Message reply = rabbitTemplate.sendAndReceive("test.quarantine.exchange", "test.quarantine.routing",
+                new Message(UNDECODABLE_BODY, properties));
+        assertThat(reply).isNotNull();
+        return reply;
+    }
+}
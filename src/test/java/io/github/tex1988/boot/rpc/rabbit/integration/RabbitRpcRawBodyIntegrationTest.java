@@ -0,0 +1,116 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestRawBodyService;
+import io.github.tex1988.boot.rpc.rabbit.util.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RAW_BODY_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SIGNATURE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for raw {@code byte[]} and {@link ByteBuffer} message bodies.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Raw Body Integration Tests")
+class RabbitRpcRawBodyIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestRawBodyService iTestRawBodyServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should pass byte arrays as raw bodies")
+    void shouldPassByteArrays() {
+        // When
+        byte[] result = iTestRawBodyServiceClient.reverse(new byte[]{1, 2, 3});
+
+        // Then
+        assertThat(result).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should pass only the remaining bytes of a buffer")
+    void shouldPassByteBuffers() {
+        // Given
+        ByteBuffer data = ByteBuffer.wrap(new byte[]{0, 1, 2, 3});
+        data.position(1);
+
+        // When
+        ByteBuffer result = iTestRawBodyServiceClient.increment(data);
+
+        // Then
+        assertThat(result.remaining()).isEqualTo(3);
+        assertThat(result.array()).containsExactly(2, 3, 4);
+        assertThat(data.position()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should pass null and empty byte arrays")
+    void shouldPassNullAndEmptyByteArrays() {
+        // When/Then
+        assertThat(iTestRawBodyServiceClient.length(null)).isEqualTo(-1);
+        assertThat(iTestRawBodyServiceClient.length(new byte[0])).isZero();
+        assertThat(iTestRawBodyServiceClient.nothing(new byte[]{1})).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send the raw bytes as the reply body")
+    void shouldSendRawReplyBody() throws NoSuchMethodException {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestRawBodyService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "reverse");
+        properties.setHeader(SIGNATURE_HEADER,
+                Utils.getMethodSignature(ITestRawBodyService.class.getMethod("reverse", byte[].class)));
+        properties.setHeader(RAW_BODY_HEADER, true);
+        Message request = new Message(new byte[]{4, 5, 6}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.raw.exchange", "test.raw.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getBody()).containsExactly(6, 5, 4);
+        assertThat((Object) reply.getMessageProperties().getHeader(RAW_BODY_HEADER)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Should reply with the converter to clients not accepting raw bodies")
+    void shouldReplySerializedToPlainRequest() throws NoSuchMethodException {
+        // Given
+        ForyMessageConverter converter = new ForyMessageConverter();
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestRawBodyService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "reverse");
+        properties.setHeader(SIGNATURE_HEADER,
+                Utils.getMethodSignature(ITestRawBodyService.class.getMethod("reverse", byte[].class)));
+        Message request = converter.toMessage(new Object[]{new byte[]{4, 5, 6}}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.raw.exchange", "test.raw.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(reply.getMessageProperties().getHeaders()).doesNotContainKey(RAW_BODY_HEADER);
+        assertThat(converter.fromMessage(reply)).isEqualTo(new byte[]{6, 5, 4});
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.constant.ErrorStatusCode;
+import io.github.tex1988.boot.rpc.rabbit.converter.ForyMessageConverter;
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestRetryService;
+import io.github.tex1988.boot.rpc.rabbit.model.ErrorRabbitResponse;
+import io.github.tex1988.boot.rpc.rabbit.retry.RetryPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.DEADLINE_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.METHOD_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RETRY_COUNT_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.RETRY_ERROR_HEADER;
+import static io.github.tex1988.boot.rpc.rabbit.constant.Constants.SERVICE_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for delayed retries of failed requests.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Retry Integration Tests")
+class RabbitRpcRetryIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    private static final String QUEUE = "test.retry.queue";
+
+    @Autowired
+    private ITestRetryService iTestRetryServiceClient;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should reply with the result of a retried request after the delays of its tiers")
+    void shouldReplyAfterRetries() {
+        // When
+        long start = System.currentTimeMillis();
+        int attempts = iTestRetryServiceClient.process("reply", 2);
+
+        // Then
+        assertThat(attempts).isEqualTo(3);
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed fire-and-forget request")
+    void shouldRetryFireAndForget() {
+        // When
+        iTestRetryServiceClient.record("fire-and-forget", 1);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> iTestRetryServiceClient.getAttempts("fire-and-forget") == 2);
+    }
+
+    @Test
+    @DisplayName("Should park a request failing all tiers and reply with its error")
+    void shouldParkAfterLastTier() {
+        // When/Then
+        assertThatThrownBy(() -> iTestRetryServiceClient.process("parked", 10))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .hasMessageContaining("Attempt 3 of parked failed")
+                .satisfies(e -> assertThat(((RabbitRpcServiceException) e).getStatusCode())
+                        .isEqualTo(ErrorStatusCode.INTERNAL_SERVER_ERROR.getCode()));
+        Message parked = rabbitTemplate.receive(RetryPolicy.getParkingQueueName(QUEUE), 5000);
+        assertThat(parked).isNotNull();
+        assertThat(parked.getMessageProperties().<Integer>getHeader(RETRY_COUNT_HEADER)).isEqualTo(2);
+        assertThat(parked.getMessageProperties().<String>getHeader(RETRY_ERROR_HEADER))
+                .isEqualTo("Attempt 3 of parked failed");
+        assertThat(iTestRetryServiceClient.getAttempts("parked")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not retry a stream failing after chunks were published")
+    void shouldNotRetryStreamedResult() {
+        // When
+        try (Stream<Integer> stream = iTestRetryServiceClient.streamThenFail("stream", 300)) {
+            assertThatThrownBy(stream::toList)
+                    .isInstanceOf(RabbitRpcServiceException.class)
+                    .hasMessageContaining("Attempt 1 of stream failed");
+        }
+
+        // Then
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(2))
+                .until(() -> iTestRetryServiceClient.getAttempts("stream") == 1);
+    }
+
+    @Test
+    @DisplayName("Should not retry a failed upload")
+    void shouldNotRetryUpload() {
+        // When/Then
+        assertThatThrownBy(() -> iTestRetryServiceClient.uploadThenFail("upload", Stream.of("a", "b", "c")))
+                .isInstanceOf(RabbitRpcServiceException.class)
+                .hasMessageContaining("Attempt 1 of upload failed");
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(2))
+                .until(() -> iTestRetryServiceClient.getAttempts("upload") == 1);
+    }
+
+    @Test
+    @DisplayName("Should reply with the error when the deadline passes before the next attempt")
+    void shouldNotRetryPastDeadline() {
+        // Given
+        ForyMessageConverter converter = new ForyMessageConverter();
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SERVICE_HEADER, ITestRetryService.class.getCanonicalName());
+        properties.setHeader(METHOD_HEADER, "process");
+        properties.setHeader(DEADLINE_HEADER, System.currentTimeMillis() + 150);
+        Message request = converter.toMessage(new Object[]{"deadline", 1}, properties);
+
+        // When
+        Message reply = rabbitTemplate.sendAndReceive("test.retry.exchange", "test.retry.routing", request);
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(converter.fromMessage(reply)).isInstanceOfSatisfying(ErrorRabbitResponse.class, response ->
+                assertThat(response.getStatusCode()).isEqualTo(ErrorStatusCode.INTERNAL_SERVER_ERROR.getCode()));
+        assertThat(iTestRetryServiceClient.getAttempts("deadline")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.exception.RabbitRpcServiceException;
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestStreamingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for chunked streaming of results with credit-based flow control.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Streaming Integration Tests")
+class RabbitRpcStreamingIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestStreamingService iTestStreamingServiceClient;
+
+    @Test
+    @DisplayName("Should stream all elements of a Stream in order")
+    void shouldStreamAllElements() {
+        // When
+        List<String> result;
+        try (Stream<String> stream = iTestStreamingServiceClient.stream(10_050)) {
+            result = stream.toList();
+        }
+
+        // Then
+        assertThat(result).hasSize(10_050);
+        assertThat(result.get(0)).isEqualTo("item-0");
+        assertThat(result.get(10_049)).isEqualTo("item-10049");
+    }
+
+    @Test
+    @DisplayName("Should stream elements of an Iterator")
+    void shouldStreamIterator() {
+        // When
+        Iterator<Integer> iterator = iTestStreamingServiceClient.iterate(250);
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+
+        // Then
+        assertThat(result).hasSize(250);
+        assertThat(result.get(249)).isEqualTo(249);
+    }
+
+    @Test
+    @DisplayName("Should stream an empty result")
+    void shouldStreamEmptyResult() {
+        // When
+        Iterator<Integer> iterator = iTestStreamingServiceClient.iterate(0);
+
+        // Then
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stream elements of a Flux")
+    void shouldStreamFlux() {
+        // When
+        List<String> result = iTestStreamingServiceClient.flux(1_000).collectList().block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(result).hasSize(1_000);
+        assertThat(result.get(999)).isEqualTo("item-999");
+    }
+
+    @Test
+    @DisplayName("Should only produce elements the client granted credits for")
+    void shouldApplyFlowControl() {
+        // When
+        List<String> result;
+        try (Stream<String> stream = iTestStreamingServiceClient.stream(1_000_000)) {
+            result = stream.limit(150).toList();
+        }
+
+        // Then
+        assertThat(result).hasSize(150);
+        // 2 chunks consumed, credits granted for 4 more chunks of 100 elements, 1 chunk buffered on cancel
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(iTestStreamingServiceClient.produced()).isBetween(150, 700));
+    }
+
+    @Test
+    @DisplayName("Should propagate an error thrown while streaming")
+    void shouldPropagateStreamingError() {
+        // When / Then
+        try (Stream<String> stream = iTestStreamingServiceClient.failAfter(250)) {
+            assertThatThrownBy(stream::toList)
+                    .isInstanceOf(RabbitRpcServiceException.class)
+                    .hasMessageContaining("Stream failed after 250 items");
+        }
+    }
+}
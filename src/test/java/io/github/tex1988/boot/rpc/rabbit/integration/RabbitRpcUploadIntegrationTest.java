@@ -0,0 +1,90 @@
+package io.github.tex1988.boot.rpc.rabbit.integration;
+
+import io.github.tex1988.boot.rpc.rabbit.integration.config.TestClientServerConfig;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestUploadService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for streamed arguments sent in chunks.
+ */
+@SpringBootTest(classes = TestClientServerConfig.class)
+@Testcontainers
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("RabbitMQ RPC Upload Integration Tests")
+class RabbitRpcUploadIntegrationTest extends AbstractRabbitRpcIntegrationTest {
+
+    @Autowired
+    private ITestUploadService iTestUploadServiceClient;
+
+    @Test
+    @DisplayName("Should upload a large Stream argument in chunks")
+    void shouldUploadStream() {
+        // Given
+        Stream<String> items = IntStream.range(0, 100_000).mapToObj(i -> "item");
+
+        // When
+        Long result = iTestUploadServiceClient.totalLength(items);
+
+        // Then
+        assertThat(result).isEqualTo(400_000L);
+    }
+
+    @Test
+    @DisplayName("Should upload an Iterator argument next to regular arguments")
+    void shouldUploadIterator() {
+        // When
+        String result = iTestUploadServiceClient.sum("sum=", IntStream.rangeClosed(1, 1_000).iterator());
+
+        // Then
+        assertThat(result).isEqualTo("sum=500500");
+    }
+
+    @Test
+    @DisplayName("Should upload an empty stream")
+    void shouldUploadEmptyStream() {
+        // When
+        Long result = iTestUploadServiceClient.totalLength(Stream.empty());
+
+        // Then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    @DisplayName("Should upload a Publisher argument")
+    void shouldUploadPublisher() {
+        // When
+        Long result = iTestUploadServiceClient.count(Flux.range(0, 2_000).map(String::valueOf));
+
+        // Then
+        assertThat(result).isEqualTo(2_000L);
+    }
+
+    @Test
+    @DisplayName("Should stop uploading when the server stops consuming")
+    void shouldCancelUpload() {
+        // Given
+        AtomicInteger sent = new AtomicInteger();
+        Stream<String> items = IntStream.range(0, 1_000_000)
+                .peek(i -> sent.incrementAndGet())
+                .mapToObj(String::valueOf);
+
+        // When
+        String result = iTestUploadServiceClient.takeFirst(items, 3);
+
+        // Then
+        assertThat(result).isEqualTo("0,1,2");
+        assertThat(sent.get()).isLessThan(1_000_000);
+    }
+}
@@ -1,11 +1,16 @@
 package io.github.tex1988.boot.rpc.rabbit.integration.config;
 
+import io.github.tex1988.boot.rpc.rabbit.claimcheck.InMemoryBlobStore;
+import io.github.tex1988.boot.rpc.rabbit.model.RabbitRpcConverterMapping;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
 import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 
+import java.util.List;
 import java.util.Map;
 
 abstract class BaseConfig {
@@ -18,4 +23,19 @@ abstract class BaseConfig {
                 true, true);
         return (target, retryTemplate) -> retryTemplate.setRetryPolicy(policy);
     }
+
+    @Bean
+    public RabbitRpcConverterMapping converterMapping() {
+        SimpleMessageConverter javaSerializationConverter = new SimpleMessageConverter();
+        javaSerializationConverter.setAllowedListPatterns(
+                List.of("java.*", "[Ljava.*", "io.github.tex1988.boot.rpc.rabbit.*"));
+        RabbitRpcConverterMapping mapping = new RabbitRpcConverterMapping();
+        mapping.put(MessageProperties.CONTENT_TYPE_SERIALIZED_OBJECT, javaSerializationConverter);
+        return mapping;
+    }
+
+    @Bean
+    public InMemoryBlobStore blobStore() {
+        return new InMemoryBlobStore();
+    }
 }
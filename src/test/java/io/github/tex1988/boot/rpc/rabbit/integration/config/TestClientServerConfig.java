@@ -17,7 +17,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
                 "io.github.tex1988.boot.rpc.rabbit.integration.explicit.ExplicitlyRegisteredClass"  // Explicit full name
         },
         replyTimeout = 10000L,
-        concurrency = "3-5"
+        concurrency = "3-5",
+        autoscaleInterval = "${rabbit.rpc.test.autoscale-interval:5000}",
+        queueWaitRatio = "${rabbit.rpc.test.queue-wait-ratio:}"
 )
 @SpringBootApplication(scanBasePackages = {"io.github.tex1988.boot.rpc.rabbit"})
 public class TestClientServerConfig extends BaseConfig {
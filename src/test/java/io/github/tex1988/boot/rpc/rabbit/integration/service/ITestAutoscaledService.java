@@ -0,0 +1,20 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service whose consumers are adjusted to its load.
+ */
+@RabbitRpcInterface(
+        exchange = "test.autoscaled.exchange",
+        queue = "test.autoscaled.queue",
+        routing = "test.autoscaled.routing",
+        autoscale = "1-4"
+)
+public interface ITestAutoscaledService {
+
+    /**
+     * Returns after the given time.
+     */
+    long work(long millis);
+}
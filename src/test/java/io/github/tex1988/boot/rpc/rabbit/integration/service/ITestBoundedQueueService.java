@@ -0,0 +1,34 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.MessagePriority;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service on a bounded quorum queue whose client fails fast when the queue is full.
+ */
+@RabbitRpcInterface(
+        exchange = "test.bounded.exchange",
+        queue = "test.bounded.queue",
+        routing = "test.bounded.routing",
+        concurrency = "1",
+        prefetch = "1",
+        queueType = "quorum",
+        maxLength = "1",
+        overflow = "reject-publish",
+        messageTtl = "60000",
+        failFast = "true",
+        maxPriority = "${rabbit.rpc.test.bounded-max-priority:}"
+)
+public interface ITestBoundedQueueService {
+
+    /**
+     * Returns after the given time.
+     */
+    long work(long millis);
+
+    /**
+     * Returns after the given time, sent with a high priority.
+     */
+    @MessagePriority(9)
+    long urgentWork(long millis);
+}
@@ -0,0 +1,33 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.Bulkhead;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service with slow methods running on bulkheads, served by a single consumer.
+ */
+@RabbitRpcInterface(
+        exchange = "test.bulkhead.exchange",
+        queue = "test.bulkhead.queue",
+        routing = "test.bulkhead.routing",
+        concurrency = "1"
+)
+public interface ITestBulkheadService {
+
+    /**
+     * Returns after the given time, on a bulkhead of two threads.
+     */
+    @Bulkhead(concurrency = "2")
+    long slow(long millis);
+
+    /**
+     * Fails on its bulkhead.
+     */
+    @Bulkhead
+    String failing(String message);
+
+    /**
+     * Returns the given value on the consumer thread.
+     */
+    String fast(String value);
+}
@@ -0,0 +1,27 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.util.List;
+
+/**
+ * Test service offloading bodies from 64 KiB to the blob store.
+ */
+@RabbitRpcInterface(
+        exchange = "test.claimcheck.exchange",
+        queue = "test.claimcheck.queue",
+        routing = "test.claimcheck.routing",
+        claimCheckThreshold = "65536"
+)
+public interface ITestClaimCheckService {
+
+    /**
+     * Generates a list of items, large enough to be offloaded.
+     */
+    List<String> generate(Integer count);
+
+    /**
+     * Returns the total length of all items, to test offloaded requests.
+     */
+    Integer totalLength(List<String> items);
+}
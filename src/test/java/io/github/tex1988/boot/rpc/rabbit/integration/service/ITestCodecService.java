@@ -0,0 +1,33 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestMessage;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Test service that uses Java serialization instead of the default Fory codec.
+ * The codec is registered for its content type in the test configuration.
+ */
+@RabbitRpcInterface(
+        exchange = "test.codec.exchange",
+        queue = "test.codec.queue",
+        routing = "test.codec.routing",
+        contentType = MessageProperties.CONTENT_TYPE_SERIALIZED_OBJECT
+)
+public interface ITestCodecService {
+
+    /**
+     * Echoes the message with a prefixed content.
+     */
+    TestMessage echo(TestMessage message);
+
+    /**
+     * Returns the sum of two numbers.
+     */
+    Long sum(Long a, Long b);
+
+    /**
+     * Returns null to test null responses with a non-default codec.
+     */
+    String getNull();
+}
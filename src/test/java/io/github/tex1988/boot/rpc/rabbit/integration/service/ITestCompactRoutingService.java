@@ -0,0 +1,35 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service addressed with the compact numeric route header.
+ */
+@RabbitRpcInterface(
+        exchange = "test.routing.exchange",
+        queue = "test.routing.queue",
+        routing = "test.routing.routing",
+        routingHeaders = "compact"
+)
+public interface ITestCompactRoutingService {
+
+    /**
+     * Returns the input with a prefix.
+     */
+    String echo(String value);
+
+    /**
+     * Adds two integers, to test the routing of overloads.
+     */
+    Integer add(Integer a, Integer b);
+
+    /**
+     * Adds two longs, to test the routing of overloads.
+     */
+    Long add(Long a, Long b);
+
+    /**
+     * Always fails, to test error replies of routed requests.
+     */
+    String fail(String message);
+}
@@ -0,0 +1,28 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.util.List;
+
+/**
+ * Test service with LZ4 compression of bodies from 1 KiB.
+ */
+@RabbitRpcInterface(
+        exchange = "test.compression.exchange",
+        queue = "test.compression.queue",
+        routing = "test.compression.routing",
+        compression = "lz4",
+        compressionThreshold = "1024"
+)
+public interface ITestCompressionService {
+
+    /**
+     * Generates a list of repetitive items, large enough to be compressed.
+     */
+    List<String> generate(Integer count);
+
+    /**
+     * Returns the total length of all items, to test compressed requests.
+     */
+    Integer totalLength(List<String> items);
+}
@@ -0,0 +1,23 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestUser;
+
+/**
+ * Test service with Zstandard dictionary compression of small payloads.
+ * The dictionary was trained from Fory-encoded {@link TestUser} payloads.
+ */
+@RabbitRpcInterface(
+        exchange = "test.compression.exchange",
+        queue = "test.compression.dictionary.queue",
+        routing = "test.compression.dictionary.routing",
+        compression = "zstd",
+        compressionDictionary = "classpath:rabbit-rpc/test-dictionary.zdict"
+)
+public interface ITestDictionaryCompressionService {
+
+    /**
+     * Echoes the user.
+     */
+    TestUser echo(TestUser user);
+}
@@ -0,0 +1,21 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service consumed by a direct listener container.
+ */
+@RabbitRpcInterface(
+        exchange = "test.direct.exchange",
+        queue = "test.direct.queue",
+        routing = "test.direct.routing",
+        concurrency = "1-2",
+        containerType = "direct"
+)
+public interface ITestDirectService {
+
+    /**
+     * Returns the given value.
+     */
+    String echo(String value);
+}
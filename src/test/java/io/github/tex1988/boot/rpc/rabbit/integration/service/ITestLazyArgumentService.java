@@ -0,0 +1,22 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import io.github.tex1988.boot.rpc.rabbit.model.LazyArgument;
+
+import java.util.List;
+
+/**
+ * Test service with a lazily decoded argument.
+ */
+@RabbitRpcInterface(
+        exchange = "test.lazy.exchange",
+        queue = "test.lazy.queue",
+        routing = "test.lazy.routing"
+)
+public interface ITestLazyArgumentService {
+
+    /**
+     * Returns the number of items, or -1 without decoding them if the mode is "skip".
+     */
+    Integer count(String mode, LazyArgument<List<String>> items);
+}
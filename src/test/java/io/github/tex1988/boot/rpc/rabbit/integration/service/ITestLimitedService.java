@@ -0,0 +1,25 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service called by a client limited to a single concurrent call.
+ */
+@RabbitRpcInterface(
+        exchange = "test.limited.exchange",
+        queue = "test.limited.queue",
+        routing = "test.limited.routing",
+        clientConcurrencyLimit = "1-1"
+)
+public interface ITestLimitedService {
+
+    /**
+     * Returns after the given time.
+     */
+    long slow(long millis);
+
+    /**
+     * Returns the given value.
+     */
+    String fast(String value);
+}
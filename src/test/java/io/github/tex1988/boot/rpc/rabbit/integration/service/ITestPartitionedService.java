@@ -0,0 +1,30 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.FireAndForget;
+import io.github.tex1988.boot.rpc.rabbit.annotation.PartitionKey;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.util.List;
+
+/**
+ * Test service processing requests in order per key over four partitions.
+ */
+@RabbitRpcInterface(
+        exchange = "test.partitioned.exchange",
+        queue = "test.partitioned.queue",
+        routing = "test.partitioned.routing",
+        partitions = "4"
+)
+public interface ITestPartitionedService {
+
+    /**
+     * Records a sequence number of a key.
+     */
+    @FireAndForget
+    void record(@PartitionKey String key, int sequence);
+
+    /**
+     * Returns the sequence numbers recorded for a key, in the order they were processed.
+     */
+    List<Integer> getSequences(@PartitionKey String key);
+}
@@ -0,0 +1,29 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.MessagePriority;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service mixing interactive and batch requests on a priority queue with a single consumer.
+ */
+@RabbitRpcInterface(
+        exchange = "test.priority.exchange",
+        queue = "test.priority.queue",
+        routing = "test.priority.routing",
+        concurrency = "1",
+        prefetch = "1"
+)
+@MessagePriority(1)
+public interface ITestPriorityService {
+
+    /**
+     * Returns after the given time.
+     */
+    long batch(long millis);
+
+    /**
+     * Returns the given value.
+     */
+    @MessagePriority(9)
+    String interactive(String value);
+}
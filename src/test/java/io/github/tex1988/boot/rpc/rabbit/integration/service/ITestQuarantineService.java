@@ -0,0 +1,20 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service quarantining requests delivered more than three times.
+ */
+@RabbitRpcInterface(
+        exchange = "test.quarantine.exchange",
+        queue = "test.quarantine.queue",
+        routing = "test.quarantine.routing",
+        maxDeliveries = "3"
+)
+public interface ITestQuarantineService {
+
+    /**
+     * Returns the given value.
+     */
+    String echo(String value);
+}
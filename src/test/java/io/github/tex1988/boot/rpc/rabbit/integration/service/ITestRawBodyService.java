@@ -0,0 +1,36 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Test service passing binary payloads as raw message bodies.
+ */
+@RabbitRpcInterface(
+        exchange = "test.raw.exchange",
+        queue = "test.raw.queue",
+        routing = "test.raw.routing"
+)
+public interface ITestRawBodyService {
+
+    /**
+     * Returns the bytes in reverse order.
+     */
+    byte[] reverse(byte[] data);
+
+    /**
+     * Returns the remaining bytes of the buffer with every byte incremented.
+     */
+    ByteBuffer increment(ByteBuffer data);
+
+    /**
+     * Returns the length of the data, or -1 if it is null.
+     */
+    Integer length(byte[] data);
+
+    /**
+     * Returns null, to test raw return types without a value.
+     */
+    byte[] nothing(byte[] data);
+}
@@ -0,0 +1,44 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.FireAndForget;
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.util.stream.Stream;
+
+/**
+ * Test service with transiently failing methods, retried with two delay tiers.
+ */
+@RabbitRpcInterface(
+        exchange = "test.retry.exchange",
+        queue = "test.retry.queue",
+        routing = "test.retry.routing",
+        retryDelays = "200,400"
+)
+public interface ITestRetryService {
+
+    /**
+     * Fails the given number of attempts for the key, then returns the number of attempts.
+     */
+    int process(String key, int failures);
+
+    /**
+     * Fails the given number of attempts for the key without a reply.
+     */
+    @FireAndForget
+    void record(String key, int failures);
+
+    /**
+     * Streams the given number of elements, then fails.
+     */
+    Stream<Integer> streamThenFail(String key, int count);
+
+    /**
+     * Consumes all streamed items, then fails.
+     */
+    int uploadThenFail(String key, Stream<String> items);
+
+    /**
+     * Returns the number of attempts made for the key.
+     */
+    int getAttempts(String key);
+}
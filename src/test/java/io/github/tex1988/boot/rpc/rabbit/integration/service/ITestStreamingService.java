@@ -0,0 +1,45 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Test service streaming results in chunks of 100 elements with 4 chunks in flight.
+ */
+@RabbitRpcInterface(
+        exchange = "test.streaming.exchange",
+        queue = "test.streaming.queue",
+        routing = "test.streaming.routing",
+        streamChunkSize = "100",
+        streamCredit = "4"
+)
+public interface ITestStreamingService {
+
+    /**
+     * Streams the given number of items.
+     */
+    Stream<String> stream(Integer count);
+
+    /**
+     * Streams the given number of integers as an iterator.
+     */
+    Iterator<Integer> iterate(Integer count);
+
+    /**
+     * Streams the given number of items as a Flux.
+     */
+    Flux<String> flux(Integer count);
+
+    /**
+     * Streams items and fails after the given number of items.
+     */
+    Stream<String> failAfter(Integer count);
+
+    /**
+     * Returns the number of items produced by the server so far, to test flow control.
+     */
+    Integer produced();
+}
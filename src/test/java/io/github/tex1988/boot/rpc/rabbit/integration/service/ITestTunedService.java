@@ -0,0 +1,22 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+/**
+ * Test service with its own listener container settings.
+ */
+@RabbitRpcInterface(
+        exchange = "test.tuned.exchange",
+        queue = "test.tuned.queue",
+        routing = "test.tuned.routing",
+        concurrency = "2",
+        prefetch = "1",
+        executor = "${rabbit.rpc.test.tuned-executor:}"
+)
+public interface ITestTunedService {
+
+    /**
+     * Returns the name of the thread running the call.
+     */
+    String threadName();
+}
@@ -0,0 +1,39 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+import org.reactivestreams.Publisher;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Test service taking streamed arguments in chunks of 500 elements.
+ */
+@RabbitRpcInterface(
+        exchange = "test.upload.exchange",
+        queue = "test.upload.queue",
+        routing = "test.upload.routing",
+        streamChunkSize = "500"
+)
+public interface ITestUploadService {
+
+    /**
+     * Returns the total length of all streamed items.
+     */
+    Long totalLength(Stream<String> items);
+
+    /**
+     * Returns the sum of all streamed numbers, prefixed with a label.
+     */
+    String sum(String label, Iterator<Integer> numbers);
+
+    /**
+     * Returns the number of items of a publisher.
+     */
+    Long count(Publisher<String> items);
+
+    /**
+     * Consumes only the given number of items and returns them joined.
+     */
+    String takeFirst(Stream<String> items, Integer limit);
+}
@@ -0,0 +1,22 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpcInterface;
+
+import java.util.List;
+
+/**
+ * Test service with Zstandard compression and the default threshold.
+ */
+@RabbitRpcInterface(
+        exchange = "test.compression.exchange",
+        queue = "test.compression.zstd.queue",
+        routing = "test.compression.zstd.routing",
+        compression = "zstd"
+)
+public interface ITestZstdCompressionService {
+
+    /**
+     * Generates a list of repetitive items.
+     */
+    List<String> generate(Integer count);
+}
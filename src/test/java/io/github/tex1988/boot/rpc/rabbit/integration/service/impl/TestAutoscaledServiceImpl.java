@@ -0,0 +1,21 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestAutoscaledService;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the autoscaled test service.
+ */
+@Service
+@RabbitRpc
+public class TestAutoscaledServiceImpl implements ITestAutoscaledService {
+
+    @Override
+    @SneakyThrows
+    public long work(long millis) {
+        Thread.sleep(millis);
+        return millis;
+    }
+}
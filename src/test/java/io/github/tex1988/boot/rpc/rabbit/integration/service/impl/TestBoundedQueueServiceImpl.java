@@ -0,0 +1,26 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestBoundedQueueService;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the bounded queue test service.
+ */
+@Service
+@RabbitRpc
+public class TestBoundedQueueServiceImpl implements ITestBoundedQueueService {
+
+    @Override
+    @SneakyThrows
+    public long work(long millis) {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Override
+    public long urgentWork(long millis) {
+        return work(millis);
+    }
+}
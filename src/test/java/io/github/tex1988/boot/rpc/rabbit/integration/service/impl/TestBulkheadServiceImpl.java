@@ -0,0 +1,31 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestBulkheadService;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the bulkhead test service.
+ */
+@Service
+@RabbitRpc
+public class TestBulkheadServiceImpl implements ITestBulkheadService {
+
+    @Override
+    @SneakyThrows
+    public long slow(long millis) {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Override
+    public String failing(String message) {
+        throw new IllegalStateException(message);
+    }
+
+    @Override
+    public String fast(String value) {
+        return value;
+    }
+}
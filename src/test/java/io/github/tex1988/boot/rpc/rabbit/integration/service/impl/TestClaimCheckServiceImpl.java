@@ -0,0 +1,28 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestClaimCheckService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of the claim-check test service.
+ */
+@Service
+@RabbitRpc
+public class TestClaimCheckServiceImpl implements ITestClaimCheckService {
+
+    @Override
+    public List<String> generate(Integer count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "item-" + i)
+                .toList();
+    }
+
+    @Override
+    public Integer totalLength(List<String> items) {
+        return items.stream().mapToInt(String::length).sum();
+    }
+}
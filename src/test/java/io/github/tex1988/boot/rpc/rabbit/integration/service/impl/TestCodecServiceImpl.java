@@ -0,0 +1,29 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestMessage;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCodecService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the Java serialization codec test service.
+ */
+@Service
+@RabbitRpc
+public class TestCodecServiceImpl implements ITestCodecService {
+
+    @Override
+    public TestMessage echo(TestMessage message) {
+        return new TestMessage("Echo: " + message.getContent(), message.getTimestamp());
+    }
+
+    @Override
+    public Long sum(Long a, Long b) {
+        return a + b;
+    }
+
+    @Override
+    public String getNull() {
+        return null;
+    }
+}
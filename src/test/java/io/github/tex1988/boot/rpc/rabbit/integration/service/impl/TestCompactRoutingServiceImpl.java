@@ -0,0 +1,33 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCompactRoutingService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the compact routing test service.
+ */
+@Service
+@RabbitRpc
+public class TestCompactRoutingServiceImpl implements ITestCompactRoutingService {
+
+    @Override
+    public String echo(String value) {
+        return "echo: " + value;
+    }
+
+    @Override
+    public Integer add(Integer a, Integer b) {
+        return a + b;
+    }
+
+    @Override
+    public Long add(Long a, Long b) {
+        return a + b + 1_000_000_000_000L;
+    }
+
+    @Override
+    public String fail(String message) {
+        throw new IllegalStateException(message);
+    }
+}
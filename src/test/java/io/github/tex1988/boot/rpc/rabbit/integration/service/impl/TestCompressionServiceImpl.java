@@ -0,0 +1,28 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestCompressionService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of the LZ4 compression test service.
+ */
+@Service
+@RabbitRpc
+public class TestCompressionServiceImpl implements ITestCompressionService {
+
+    @Override
+    public List<String> generate(Integer count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "item-" + i % 100)
+                .toList();
+    }
+
+    @Override
+    public Integer totalLength(List<String> items) {
+        return items.stream().mapToInt(String::length).sum();
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.model.TestUser;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestDictionaryCompressionService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the Zstandard dictionary compression test service.
+ */
+@Service
+@RabbitRpc
+public class TestDictionaryCompressionServiceImpl implements ITestDictionaryCompressionService {
+
+    @Override
+    public TestUser echo(TestUser user) {
+        return user;
+    }
+}
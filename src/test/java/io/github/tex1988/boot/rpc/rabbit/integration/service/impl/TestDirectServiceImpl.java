@@ -0,0 +1,18 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestDirectService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the direct listener container test service.
+ */
+@Service
+@RabbitRpc
+public class TestDirectServiceImpl implements ITestDirectService {
+
+    @Override
+    public String echo(String value) {
+        return value;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestLazyArgumentService;
+import io.github.tex1988.boot.rpc.rabbit.model.LazyArgument;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the lazy argument test service.
+ */
+@Service
+@RabbitRpc
+public class TestLazyArgumentServiceImpl implements ITestLazyArgumentService {
+
+    private volatile LazyArgument<List<String>> lastItems;
+
+    @Override
+    public Integer count(String mode, LazyArgument<List<String>> items) {
+        lastItems = items;
+        if ("skip".equals(mode)) {
+            return -1;
+        }
+        return items != null && items.get() != null ? items.get().size() : 0;
+    }
+
+    /**
+     * Returns the argument received by the last call, for test assertions.
+     */
+    public LazyArgument<List<String>> getLastItems() {
+        return lastItems;
+    }
+}
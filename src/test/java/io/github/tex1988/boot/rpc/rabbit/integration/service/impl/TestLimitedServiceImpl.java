@@ -0,0 +1,26 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestLimitedService;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the limited test service.
+ */
+@Service
+@RabbitRpc
+public class TestLimitedServiceImpl implements ITestLimitedService {
+
+    @Override
+    @SneakyThrows
+    public long slow(long millis) {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Override
+    public String fast(String value) {
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestPartitionedService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the partitioned test service.
+ */
+@Service
+@RabbitRpc
+public class TestPartitionedServiceImpl implements ITestPartitionedService {
+
+    private final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String key, int sequence) {
+        List<Integer> keySequences = sequences.computeIfAbsent(key, k -> new ArrayList<>());
+        synchronized (keySequences) {
+            keySequences.add(sequence);
+        }
+    }
+
+    @Override
+    public List<Integer> getSequences(String key) {
+        List<Integer> keySequences = sequences.getOrDefault(key, List.of());
+        synchronized (keySequences) {
+            return new ArrayList<>(keySequences);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestPriorityService;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the priority test service.
+ */
+@Service
+@RabbitRpc
+public class TestPriorityServiceImpl implements ITestPriorityService {
+
+    @Override
+    @SneakyThrows
+    public long batch(long millis) {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Override
+    public String interactive(String value) {
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestQuarantineService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the quarantine test service.
+ */
+@Service
+@RabbitRpc
+public class TestQuarantineServiceImpl implements ITestQuarantineService {
+
+    @Override
+    public String echo(String value) {
+        return value;
+    }
+}
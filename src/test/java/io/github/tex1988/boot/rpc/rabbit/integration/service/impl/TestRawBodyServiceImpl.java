@@ -0,0 +1,43 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestRawBodyService;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of the raw body test service.
+ */
+@Service
+@RabbitRpc
+public class TestRawBodyServiceImpl implements ITestRawBodyService {
+
+    @Override
+    public byte[] reverse(byte[] data) {
+        byte[] result = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            result[i] = data[data.length - 1 - i];
+        }
+        return result;
+    }
+
+    @Override
+    public ByteBuffer increment(ByteBuffer data) {
+        ByteBuffer result = ByteBuffer.allocate(data.remaining());
+        while (data.hasRemaining()) {
+            result.put((byte) (data.get() + 1));
+        }
+        return result.flip();
+    }
+
+    @Override
+    public Integer length(byte[] data) {
+        return data != null ? data.length : -1;
+    }
+
+    @Override
+    public byte[] nothing(byte[] data) {
+        return null;
+    }
+}
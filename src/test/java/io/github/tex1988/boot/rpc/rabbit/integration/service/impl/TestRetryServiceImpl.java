@@ -0,0 +1,58 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestRetryService;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the retry test service.
+ */
+@Service
+@RabbitRpc
+public class TestRetryServiceImpl implements ITestRetryService {
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+    @Override
+    public int process(String key, int failures) {
+        int attempt = attempts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        if (attempt <= failures) {
+            throw new IllegalStateException("Attempt " + attempt + " of " + key + " failed");
+        }
+        return attempt;
+    }
+
+    @Override
+    public void record(String key, int failures) {
+        process(key, failures);
+    }
+
+    @Override
+    public Stream<Integer> streamThenFail(String key, int count) {
+        int attempt = attempts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        return IntStream.rangeClosed(0, count).mapToObj(i -> {
+            if (i == count) {
+                throw new IllegalStateException("Attempt " + attempt + " of " + key + " failed");
+            }
+            return i;
+        });
+    }
+
+    @Override
+    public int uploadThenFail(String key, Stream<String> items) {
+        long count = items.count();
+        return process(key, (int) count);
+    }
+
+    @Override
+    public int getAttempts(String key) {
+        AtomicInteger attempt = attempts.get(key);
+        return attempt != null ? attempt.get() : 0;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestStreamingService;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the streaming test service.
+ */
+@Service
+@RabbitRpc
+public class TestStreamingServiceImpl implements ITestStreamingService {
+
+    private final AtomicInteger produced = new AtomicInteger();
+
+    @Override
+    public Stream<String> stream(Integer count) {
+        produced.set(0);
+        return IntStream.range(0, count)
+                .peek(i -> produced.incrementAndGet())
+                .mapToObj(i -> "item-" + i);
+    }
+
+    @Override
+    public Iterator<Integer> iterate(Integer count) {
+        return IntStream.range(0, count).iterator();
+    }
+
+    @Override
+    public Flux<String> flux(Integer count) {
+        return Flux.range(0, count).map(i -> "item-" + i);
+    }
+
+    @Override
+    public Stream<String> failAfter(Integer count) {
+        return IntStream.range(0, count + 1)
+                .mapToObj(i -> {
+                    if (i == count) {
+                        throw new IllegalStateException("Stream failed after " + count + " items");
+                    }
+                    return "item-" + i;
+                });
+    }
+
+    @Override
+    public Integer produced() {
+        return produced.get();
+    }
+}
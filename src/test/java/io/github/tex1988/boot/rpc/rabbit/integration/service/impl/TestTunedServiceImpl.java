@@ -0,0 +1,18 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestTunedService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the tuned listener container test service.
+ */
+@Service
+@RabbitRpc
+public class TestTunedServiceImpl implements ITestTunedService {
+
+    @Override
+    public String threadName() {
+        return Thread.currentThread().getName();
+    }
+}
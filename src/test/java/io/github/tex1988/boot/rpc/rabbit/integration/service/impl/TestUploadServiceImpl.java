@@ -0,0 +1,43 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestUploadService;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the upload test service.
+ */
+@Service
+@RabbitRpc
+public class TestUploadServiceImpl implements ITestUploadService {
+
+    @Override
+    public Long totalLength(Stream<String> items) {
+        return items.mapToLong(String::length).sum();
+    }
+
+    @Override
+    public String sum(String label, Iterator<Integer> numbers) {
+        long sum = 0;
+        while (numbers.hasNext()) {
+            sum += numbers.next();
+        }
+        return label + sum;
+    }
+
+    @Override
+    public Long count(Publisher<String> items) {
+        return Flux.from(items).count().block();
+    }
+
+    @Override
+    public String takeFirst(Stream<String> items, Integer limit) {
+        return items.limit(limit).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.tex1988.boot.rpc.rabbit.integration.service.impl;
+
+import io.github.tex1988.boot.rpc.rabbit.annotation.RabbitRpc;
+import io.github.tex1988.boot.rpc.rabbit.integration.service.ITestZstdCompressionService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of the Zstandard compression test service.
+ */
+@Service
+@RabbitRpc
+public class TestZstdCompressionServiceImpl implements ITestZstdCompressionService {
+
+    @Override
+    public List<String> generate(Integer count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "item-" + i % 100)
+                .toList();
+    }
+}
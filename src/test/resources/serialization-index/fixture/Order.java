@@ -0,0 +1,14 @@
+package fixture;
+
+public class Order {
+
+    public enum Status {
+        NEW, PAID
+    }
+
+    public static class Line {
+    }
+
+    public interface Visitor {
+    }
+}
@@ -0,0 +1,4 @@
+package fixture;
+
+public record Payment(String id, Order order) {
+}
@@ -0,0 +1,6 @@
+package fixture;
+
+public interface PaymentService {
+
+    Payment pay(Order order);
+}
@@ -0,0 +1,4 @@
+package fixture.sub;
+
+public class Refund {
+}